@@ -5,9 +5,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import umc.meme.shop.domain.artist.dto.request.ArtistProfileDto;
 import umc.meme.shop.domain.artist.service.ArtistService;
+import umc.meme.shop.domain.search.index.ArtistDiscoveryIndex;
 import umc.meme.shop.global.SuccessStatus;
+import umc.meme.shop.global.enums.*;
 import umc.meme.shop.global.response.ApiResponse;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1")
@@ -33,6 +37,21 @@ public class ArtistController {
         return ApiResponse.SuccessResponse(SuccessStatus.ARTIST_PROFILE_GET, artistService.getArtistProfile(userId, artistId));
     }
 
+    @Operation(summary = "아티스트 조건 검색", description = "활동 지역, 전문 분야, 활동 형태, 최소 경력, 예약 가능 요일/시간으로 아티스트를 찾는 API입니다. " +
+            "같은 조건의 여러 값은 하나라도 맞으면, 서로 다른 조건은 모두 맞아야 검색됩니다. times 는 day 와 함께 보내야 하며 모든 시간이 예약 가능해야 합니다.")
+    @GetMapping("/artist/search")
+    public ApiResponse searchArtists(@RequestParam(value = "region", required = false) List<Region> region,
+                                     @RequestParam(value = "category", required = false) List<Category> category,
+                                     @RequestParam(value = "makeupLocation", required = false) MakeupLocation makeupLocation,
+                                     @RequestParam(value = "minWorkExperience", required = false) WorkExperience minWorkExperience,
+                                     @RequestParam(value = "day", required = false) DayOfWeek day,
+                                     @RequestParam(value = "times", required = false) List<Times> times,
+                                     @RequestParam(value = "page", defaultValue = "0", required = false) int page){
+        ArtistDiscoveryIndex.Criteria criteria = new ArtistDiscoveryIndex.Criteria(region, category, makeupLocation,
+                minWorkExperience, day, times);
+        return ApiResponse.SuccessResponse(SuccessStatus.ARTIST_SEARCH_GET, artistService.searchArtists(criteria, page));
+    }
+
     //temp method for Artist create
     @Operation(summary = "temp 아티스트 생성(프론트랑 상관X)")
     @PostMapping("/artist")
@@ -26,6 +26,7 @@ public class ArtistProfileDto {
     private MakeupLocation makeupLocation;
     private String shopLocation;
     private Map<DayOfWeek, Times> availableDayOfWeek;
+    private Map<DayOfWeek, List<Times>> availableTimes; //요일별 예약 가능 시간 (여러 개)
 
     public static ArtistProfileDto from(Artist artist){
         return ArtistProfileDto.builder()
@@ -40,6 +41,7 @@ public class ArtistProfileDto {
                 .makeupLocation(artist.getMakeupLocation())
                 .shopLocation(artist.getShopLocation())
                 .availableDayOfWeek(artist.getAvailableDayOfWeekAndTime())
+                .availableTimes(artist.getWeeklyAvailability().toMap())
                 .build();
     }
 }
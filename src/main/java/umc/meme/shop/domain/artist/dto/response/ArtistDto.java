@@ -40,8 +40,16 @@ public class ArtistDto {
 
     private Map<DayOfWeek, Times> availableDayOfWeekAndTime;
 
+    private Map<DayOfWeek, List<Times>> availableTimes; //요일별 예약 가능 시간
+
     private List<SimplePortfolioDto> simplePortfolioDtoList;
 
+    private int reviewCount; //리뷰 수
+
+    private int favoriteCount; //관심 등록 수
+
+    private int reservationCount; //완료된 예약 수
+
 
 
     public static ArtistDto from(Artist artist, boolean isFavorite){
@@ -62,7 +70,11 @@ public class ArtistDto {
                 .specialization(artist.getSpecialization())
                 .makeupLocation(artist.getMakeupLocation())
                 .availableDayOfWeekAndTime(artist.getAvailableDayOfWeekAndTime())
+                .availableTimes(artist.getWeeklyAvailability().toMap())
                 .simplePortfolioDtoList(portfolioDtoList)
+                .reviewCount(artist.getReviewCount())
+                .favoriteCount(artist.getFavoriteCount())
+                .reservationCount(artist.getReservationCount())
                 .build();
     }
 
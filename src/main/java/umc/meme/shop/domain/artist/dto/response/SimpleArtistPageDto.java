@@ -0,0 +1,37 @@
+package umc.meme.shop.domain.artist.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import umc.meme.shop.global.ErrorStatus;
+import umc.meme.shop.global.exception.GlobalException;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimpleArtistPageDto {
+    private List<SimpleArtistDto> content;
+    private int currentPage; //현재 페이지 번호
+    private int pageSize; //페이지 크기
+    private int totalNumber; //전체 아티스트 수
+    private int totalPage; //전체 페이지 개수
+
+    public static SimpleArtistPageDto from(Page<?> page, List<SimpleArtistDto> content){
+        //검색 결과가 없을 시
+        if(content.isEmpty())
+            throw new GlobalException(ErrorStatus.SEARCH_NOT_FOUNT);
+
+        return SimpleArtistPageDto.builder()
+                .content(content)
+                .pageSize(page.getSize())
+                .currentPage(page.getNumber())
+                .totalNumber((int) page.getTotalElements())
+                .totalPage(page.getTotalPages())
+                .build();
+    }
+}
@@ -5,9 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import umc.meme.shop.domain.user.User;
 import umc.meme.shop.domain.artist.dto.request.ArtistProfileDto;
 import umc.meme.shop.domain.portfolio.entity.Portfolio;
+import umc.meme.shop.global.config.SecondLevelCacheConfig;
 import umc.meme.shop.global.enums.*;
 
 import java.util.List;
@@ -28,11 +31,13 @@ public class Artist extends User {
     private WorkExperience workExperience;
 
     @ElementCollection(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.ARTIST_REGION)
     @Enumerated(EnumType.STRING)
     @Column(nullable = true)
     private List<Region> region;
 
     @ElementCollection(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.ARTIST_SPECIALIZATION)
     @Enumerated(EnumType.STRING)
     @Column(nullable = true)
     private List<Category> specialization;
@@ -45,6 +50,7 @@ public class Artist extends User {
     private String shopLocation; //샵의 위치
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.ARTIST_AVAILABLE_TIME)
     @CollectionTable(name = "available_time_mapping",
             joinColumns = {@JoinColumn(name = "user_id", referencedColumnName = "user_id")})
     @MapKeyColumn(name = "day_of_week")
@@ -53,9 +59,25 @@ public class Artist extends User {
     @Column(nullable = true)
     private Map<DayOfWeek, Times> availableDayOfWeekAndTime;
 
+    //요일별 예약 가능 시간 비트맵 (요일당 48개 slot)
+    @Convert(converter = WeeklyAvailabilityConverter.class)
+    @Column(nullable = true, columnDefinition = "VARBINARY(42)")
+    private WeeklyAvailability weeklyAvailability;
+
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "artist")
     private List<Portfolio> portfolioList;
 
+    //포트폴리오 리뷰 수 합계 / 관심 아티스트 등록 수 / 완료된 예약 수 합계
+    //bulk update/JDBC 로만 갱신 (프로필 수정이 읽어 둔 값으로 덮어쓰지 않도록)
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "INT default 0")
+    private int reviewCount;
+
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "INT default 0")
+    private int favoriteCount;
+
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "INT default 0")
+    private int reservationCount;
+
 
     public void updateArtist(ArtistProfileDto request) {
         if (request.getProfileImg() != null)
@@ -76,8 +98,19 @@ public class Artist extends User {
             this.makeupLocation = request.getMakeupLocation();
         if (request.getShopLocation() != null)
             this.shopLocation = request.getShopLocation();
-        if (request.getAvailableDayOfWeek() != null)
+        if (request.getAvailableDayOfWeek() != null) {
             this.availableDayOfWeekAndTime = request.getAvailableDayOfWeek();
+            this.weeklyAvailability = WeeklyAvailability.fromLegacy(request.getAvailableDayOfWeek());
+        }
+        if (request.getAvailableTimes() != null)
+            this.weeklyAvailability = WeeklyAvailability.of(request.getAvailableTimes());
+    }
+
+    //비트맵이 없는 기존 데이터는 available_time_mapping 으로 계산
+    public WeeklyAvailability getWeeklyAvailability() {
+        if (this.weeklyAvailability != null)
+            return this.weeklyAvailability;
+        return WeeklyAvailability.fromLegacy(this.availableDayOfWeekAndTime);
     }
 
     public void updatePortfolioList(Portfolio portfolio){
@@ -0,0 +1,101 @@
+package umc.meme.shop.domain.artist.entity;
+
+import umc.meme.shop.global.enums.DayOfWeek;
+import umc.meme.shop.global.enums.Times;
+import umc.meme.shop.global.util.TimeSlots;
+
+import java.util.*;
+
+/**
+ * 아티스트의 요일별 예약 가능 시간
+ * 요일마다 48개 slot 비트맵(long)을 두고, DB 에는 요일당 6 byte 씩 42 byte 로 저장한다.
+ */
+public final class WeeklyAvailability {
+    private static final int DAYS = DayOfWeek.values().length;
+    private static final int BYTES_PER_DAY = TimeSlots.SLOT_COUNT / Byte.SIZE;
+    public static final int BYTES = DAYS * BYTES_PER_DAY;
+
+    //index = DayOfWeek.ordinal()
+    private final long[] slots;
+
+    private WeeklyAvailability(long[] slots) {
+        this.slots = slots;
+    }
+
+    public static WeeklyAvailability empty() {
+        return new WeeklyAvailability(new long[DAYS]);
+    }
+
+    public static WeeklyAvailability of(Map<DayOfWeek, ? extends Collection<Times>> times) {
+        long[] slots = new long[DAYS];
+        if (times != null)
+            times.forEach((day, dayTimes) -> {
+                if (day != null && dayTimes != null)
+                    slots[day.ordinal()] |= TimeSlots.mask(dayTimes);
+            });
+        return new WeeklyAvailability(slots);
+    }
+
+    //기존 요일당 한 slot 형식 (available_time_mapping)
+    public static WeeklyAvailability fromLegacy(Map<DayOfWeek, Times> times) {
+        long[] slots = new long[DAYS];
+        if (times != null)
+            times.forEach((day, time) -> {
+                if (day != null && time != null)
+                    slots[day.ordinal()] |= TimeSlots.mask(time);
+            });
+        return new WeeklyAvailability(slots);
+    }
+
+    public long slots(DayOfWeek day) {
+        return slots[day.ordinal()];
+    }
+
+    public boolean isEmpty() {
+        return Arrays.stream(slots).allMatch(daySlots -> daySlots == 0);
+    }
+
+    //mask 의 모든 slot 이 해당 요일 예약 가능 시간에 포함되는지
+    public boolean isAvailable(DayOfWeek day, long mask) {
+        return mask != 0 && TimeSlots.contains(slots[day.ordinal()], mask);
+    }
+
+    public Map<DayOfWeek, List<Times>> toMap() {
+        Map<DayOfWeek, List<Times>> map = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (slots[day.ordinal()] != 0)
+                map.put(day, TimeSlots.toTimes(slots[day.ordinal()]));
+        }
+        return map;
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[BYTES];
+        for (int day = 0; day < DAYS; day++) {
+            for (int i = 0; i < BYTES_PER_DAY; i++)
+                bytes[day * BYTES_PER_DAY + i] = (byte) (slots[day] >>> (i * Byte.SIZE));
+        }
+        return bytes;
+    }
+
+    public static WeeklyAvailability fromBytes(byte[] bytes) {
+        long[] slots = new long[DAYS];
+        for (int day = 0; day < DAYS; day++) {
+            for (int i = 0; i < BYTES_PER_DAY && day * BYTES_PER_DAY + i < bytes.length; i++)
+                slots[day] |= (bytes[day * BYTES_PER_DAY + i] & 0xFFL) << (i * Byte.SIZE);
+        }
+        return new WeeklyAvailability(slots);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        return o instanceof WeeklyAvailability other && Arrays.equals(slots, other.slots);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(slots);
+    }
+}
@@ -0,0 +1,17 @@
+package umc.meme.shop.domain.artist.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class WeeklyAvailabilityConverter implements AttributeConverter<WeeklyAvailability, byte[]> {
+    @Override
+    public byte[] convertToDatabaseColumn(WeeklyAvailability attribute) {
+        return attribute == null ? null : attribute.toBytes();
+    }
+
+    @Override
+    public WeeklyAvailability convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : WeeklyAvailability.fromBytes(dbData);
+    }
+}
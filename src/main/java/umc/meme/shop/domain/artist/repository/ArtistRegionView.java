@@ -0,0 +1,9 @@
+package umc.meme.shop.domain.artist.repository;
+
+import umc.meme.shop.global.enums.Region;
+
+//아티스트 활동 지역 일괄 조회용 projection
+public interface ArtistRegionView {
+    Long getArtistId();
+    Region getRegion();
+}
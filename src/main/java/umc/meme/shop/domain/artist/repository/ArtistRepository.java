@@ -1,7 +1,49 @@
 package umc.meme.shop.domain.artist.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import umc.meme.shop.domain.artist.entity.Artist;
 
-public interface ArtistRepository extends JpaRepository<Artist, Long> {
+import java.util.Collection;
+import java.util.List;
+
+public interface ArtistRepository extends JpaRepository<Artist, Long>, ArtistRepositoryCustom {
+    @Query("SELECT a.userId AS artistId, r AS region FROM Artist a JOIN a.region r " +
+            "WHERE a.userId IN :artistIds")
+    List<ArtistRegionView> findRegionsByArtistIdIn(@Param("artistIds") Collection<Long> artistIds);
+
+    //전체 아티스트 활동 지역 / 전문 분야 (조건 검색 색인 적재용)
+    @Query("SELECT a.userId AS artistId, r AS region FROM Artist a JOIN a.region r")
+    List<ArtistRegionView> findAllRegions();
+
+    @Query("SELECT a.userId AS artistId, s AS specialization FROM Artist a JOIN a.specialization s")
+    List<ArtistSpecializationView> findAllSpecializations();
+
+    //포트폴리오 집계/관심 아티스트 테이블 기준 재계산 (포트폴리오 재계산 이후 실행, user 캐시 region 전체 무효화)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "artist"))
+    @Query(value = RECALCULATE_COUNTERS, nativeQuery = true)
+    int recalculateCounters();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "artist"))
+    @Query(value = RECALCULATE_COUNTERS + " WHERE a.user_id IN (:artistIds)", nativeQuery = true)
+    int recalculateCounters(@Param("artistIds") Collection<Long> artistIds);
+
+    //집계 컬럼이 채워지지 않은 아티스트 (포트폴리오 집계를 채운 뒤 실행)
+    @Query(value = "SELECT a.user_id FROM artist a WHERE " +
+            "(a.review_count = 0 AND EXISTS (SELECT 1 FROM portfolio p WHERE p.user_id = a.user_id AND p.review_count > 0)) " +
+            "OR (a.reservation_count = 0 AND EXISTS (SELECT 1 FROM portfolio p WHERE p.user_id = a.user_id AND p.reservation_count > 0)) " +
+            "OR (a.favorite_count = 0 AND EXISTS (SELECT 1 FROM favorite_artist f WHERE f.artist_id = a.user_id))", nativeQuery = true)
+    List<Long> findUncountedArtistIds();
+
+    String RECALCULATE_COUNTERS = "UPDATE artist a SET " +
+            "a.review_count = (SELECT COALESCE(SUM(p.review_count), 0) FROM portfolio p WHERE p.user_id = a.user_id), " +
+            "a.reservation_count = (SELECT COALESCE(SUM(p.reservation_count), 0) FROM portfolio p WHERE p.user_id = a.user_id), " +
+            "a.favorite_count = (SELECT COUNT(*) FROM favorite_artist f WHERE f.artist_id = a.user_id)";
 }
@@ -0,0 +1,9 @@
+package umc.meme.shop.domain.artist.repository;
+
+public interface ArtistRepositoryCustom {
+    //집계 컬럼 증감 (JOINED 상속 JPQL bulk update 는 임시 테이블을 거치므로 artist 테이블만 직접 갱신)
+    int updateCounters(Long artistId, int reviewDelta, int favoriteDelta, int reservationDelta);
+
+    //포트폴리오 리뷰 수 증감분을 해당 아티스트에 반영
+    int updateReviewCountByPortfolioId(Long portfolioId, int reviewDelta);
+}
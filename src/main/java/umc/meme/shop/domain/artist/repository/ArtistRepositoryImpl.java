@@ -0,0 +1,39 @@
+package umc.meme.shop.domain.artist.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import umc.meme.shop.domain.artist.entity.Artist;
+import umc.meme.shop.global.config.EntityCacheEvictor;
+
+import java.util.List;
+
+//집계 컬럼은 JDBC 로 갱신하고 바뀐 아티스트만 2차 캐시에서 내보낸다 (native 쿼리로 갱신하면 user region 전체가 무효화됨)
+@RequiredArgsConstructor
+public class ArtistRepositoryImpl implements ArtistRepositoryCustom {
+    private static final String UPDATE_COUNTERS =
+            "UPDATE artist SET review_count = review_count + ?, " +
+            "favorite_count = favorite_count + ?, " +
+            "reservation_count = reservation_count + ? " +
+            "WHERE user_id = ?";
+
+    private static final String FIND_ARTIST_ID_BY_PORTFOLIO_ID =
+            "SELECT user_id FROM portfolio WHERE portfolio_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheEvictor entityCacheEvictor;
+
+    @Override
+    public int updateCounters(Long artistId, int reviewDelta, int favoriteDelta, int reservationDelta) {
+        int updated = jdbcTemplate.update(UPDATE_COUNTERS, reviewDelta, favoriteDelta, reservationDelta, artistId);
+        entityCacheEvictor.evictAfterCommit(Artist.class, List.of(artistId));
+        return updated;
+    }
+
+    @Override
+    public int updateReviewCountByPortfolioId(Long portfolioId, int reviewDelta) {
+        List<Long> artistIds = jdbcTemplate.queryForList(FIND_ARTIST_ID_BY_PORTFOLIO_ID, Long.class, portfolioId);
+        if (artistIds.isEmpty())
+            return 0;
+        return updateCounters(artistIds.get(0), reviewDelta, 0, 0);
+    }
+}
@@ -0,0 +1,9 @@
+package umc.meme.shop.domain.artist.repository;
+
+import umc.meme.shop.global.enums.Category;
+
+//아티스트 전문 분야 일괄 조회용 projection
+public interface ArtistSpecializationView {
+    Long getArtistId();
+    Category getSpecialization();
+}
@@ -2,27 +2,44 @@ package umc.meme.shop.domain.artist.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import umc.meme.shop.domain.artist.dto.request.ArtistProfileDto;
 import umc.meme.shop.domain.artist.dto.response.ArtistDto;
+import umc.meme.shop.domain.artist.dto.response.SimpleArtistDto;
+import umc.meme.shop.domain.artist.dto.response.SimpleArtistPageDto;
 import umc.meme.shop.domain.artist.entity.Artist;
 import umc.meme.shop.domain.artist.repository.ArtistRepository;
-import umc.meme.shop.domain.favorite.entity.FavoriteArtist;
-import umc.meme.shop.domain.favorite.repository.FavoriteArtistRepository;
-import umc.meme.shop.domain.model.entity.Model;
+import umc.meme.shop.domain.favorite.service.FavoriteCache;
 import umc.meme.shop.domain.model.repository.ModelRepository;
+import umc.meme.shop.domain.popularity.service.PopularityCounterService;
+import umc.meme.shop.domain.portfolio.entity.Portfolio;
+import umc.meme.shop.domain.portfolio.service.PortfolioResultCache;
+import umc.meme.shop.domain.search.index.ArtistDiscoveryIndex;
+import umc.meme.shop.domain.search.index.PortfolioSearchIndex;
 import umc.meme.shop.global.ErrorStatus;
+import umc.meme.shop.global.enums.PopularityTarget;
 import umc.meme.shop.global.exception.GlobalException;
 
-import java.util.Optional;
-
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ArtistService {
+    private static final int PAGE_SIZE = 30;
+
     private final ArtistRepository artistRepository;
     private final ModelRepository modelRepository;
-    private final FavoriteArtistRepository favoriteArtistRepository;
+    private final FavoriteCache favoriteCache;
+    private final PortfolioSearchIndex portfolioSearchIndex;
+    private final PopularityCounterService popularityCounterService;
+    private final PortfolioResultCache portfolioResultCache;
+    private final ArtistDiscoveryIndex artistDiscoveryIndex;
 
     //아티스트 프로필 관리/수정
     @Transactional
@@ -30,6 +47,18 @@ public class ArtistService {
         Artist artist = artistRepository.findById(profileDto.getUserId())
                 .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_ARTIST));
         artist.updateArtist(profileDto);
+        artistDiscoveryIndex.indexAfterCommit(artist);
+
+        //닉네임이 바뀌면 검색 색인도 갱신
+        if(profileDto.getNickname() != null)
+            portfolioSearchIndex.indexAfterCommit(artist);
+
+        //목록 카드에 보이는 아티스트 정보가 바뀌면 이 아티스트의 포트폴리오가 들어 있는 결과 캐시를 비운다
+        if(profileDto.getNickname() != null || profileDto.getRegion() != null
+                || profileDto.getMakeupLocation() != null || profileDto.getShopLocation() != null)
+            portfolioResultCache.evictPortfolios(artist.getPortfolioList().stream()
+                    .map(Portfolio::getPortfolioId)
+                    .toList());
     }
 
     //아티스트 프로필 조회 (관리 조회 용)
@@ -41,19 +70,31 @@ public class ArtistService {
 
     //아티스트 프로필 조회
     public ArtistDto getArtistProfile(Long userId, Long artistId){
-        Model model = modelRepository.findById(userId)
-                .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_MODEL));
+        if(!modelRepository.existsById(userId))
+            throw new GlobalException(ErrorStatus.NOT_EXIST_MODEL);
         Artist artist = artistRepository.findById(artistId)
                 .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_ARTIST));
 
-        boolean isFavorite = false;
-        Optional<FavoriteArtist> favoriteArtist = favoriteArtistRepository.findByModelAndArtistId(model, artistId);
-        if(favoriteArtist.isPresent())
-            isFavorite = true;
+        boolean isFavorite = favoriteCache.isFavoriteArtist(userId, artistId);
+        popularityCounterService.recordView(PopularityTarget.ARTIST, artistId);
 
         return ArtistDto.from(artist, isFavorite);
     }
 
+    //조건으로 아티스트 찾기 (조건 계산은 색인, 카드는 해당 페이지 아티스트만 조회)
+    public SimpleArtistPageDto searchArtists(ArtistDiscoveryIndex.Criteria criteria, int page){
+        Page<Long> idPage = artistDiscoveryIndex.search(criteria, PageRequest.of(page, PAGE_SIZE));
+        Map<Long, Artist> artistMap = artistRepository.findAllById(idPage.getContent()).stream()
+                .collect(Collectors.toMap(Artist::getUserId, Function.identity()));
+
+        List<SimpleArtistDto> content = idPage.getContent().stream()
+                .map(artistMap::get)
+                .filter(Objects::nonNull)
+                .map(SimpleArtistDto::from)
+                .toList();
+        return SimpleArtistPageDto.from(idPage, content);
+    }
+
     //temp method for create Artist
     @Transactional
     public void createArtist(ArtistProfileDto dto){
@@ -61,6 +102,7 @@ public class ArtistService {
         artist.updateArtist(dto);
         artist.tempMethod();
         artistRepository.save(artist);
+        artistDiscoveryIndex.indexAfterCommit(artist);
     }
 
 }
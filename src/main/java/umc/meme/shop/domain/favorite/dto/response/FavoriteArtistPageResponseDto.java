@@ -6,7 +6,6 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
 import umc.meme.shop.domain.artist.dto.response.SimpleArtistDto;
-import umc.meme.shop.domain.favorite.entity.FavoriteArtist;
 
 import java.util.List;
 
@@ -21,7 +20,7 @@ public class FavoriteArtistPageResponseDto {
     private int totalNumber; //전체 메이크업 개수
     private int totalPage; //전체 페이지 개수
 
-    public static FavoriteArtistPageResponseDto from(Page<FavoriteArtist> page, List<SimpleArtistDto> content){
+    public static FavoriteArtistPageResponseDto from(Page<Long> page, List<SimpleArtistDto> content){
         return FavoriteArtistPageResponseDto.builder()
                 .content(content)
                 .pageSize(page.getSize())
@@ -5,7 +5,6 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
-import umc.meme.shop.domain.favorite.entity.FavoritePortfolio;
 import umc.meme.shop.domain.portfolio.dto.response.SimplePortfolioDto;
 
 import java.util.List;
@@ -21,11 +20,7 @@ public class FavoritePortfolioResponsePageDto {
     private int totalNumber; //전체 메이크업 개수
     private int totalPage; //전체 페이지 개수
 
-    public static FavoritePortfolioResponsePageDto from(Page<FavoritePortfolio> page){
-        List<SimplePortfolioDto> content = page.stream()
-                .map(SimplePortfolioDto::from)
-                .toList();
-
+    public static FavoritePortfolioResponsePageDto from(Page<Long> page, List<SimplePortfolioDto> content){
         return FavoritePortfolioResponsePageDto.builder()
                 .content(content)
                 .pageSize(page.getSize())
@@ -8,16 +8,18 @@ import lombok.NoArgsConstructor;
 import umc.meme.shop.domain.artist.entity.Artist;
 import umc.meme.shop.domain.common.BaseEntity;
 import umc.meme.shop.domain.model.entity.Model;
+import umc.meme.shop.global.util.SnowflakeId;
 
 @Builder
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_favorite_artist_model_created", columnList = "user_id, created_at"))
 public class FavoriteArtist extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long favoriteArtistId;
 
     @ManyToOne
@@ -32,4 +34,11 @@ public class FavoriteArtist extends BaseEntity {
                 .artistId(artist.getUserId())
                 .build();
     }
+
+    public static FavoriteArtist of(Model model, Long artistId){
+        return FavoriteArtist.builder()
+                .model(model)
+                .artistId(artistId)
+                .build();
+    }
 }
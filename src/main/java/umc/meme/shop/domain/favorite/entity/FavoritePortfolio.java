@@ -10,16 +10,18 @@ import umc.meme.shop.domain.common.BaseEntity;
 import umc.meme.shop.domain.model.entity.Model;
 import umc.meme.shop.domain.portfolio.entity.Portfolio;
 import umc.meme.shop.domain.user.User;
+import umc.meme.shop.global.util.SnowflakeId;
 
 @Builder
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_favorite_portfolio_model_created", columnList = "user_id, created_at"))
 public class FavoritePortfolio extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long favoritePortfolioId;
 
     @ManyToOne
@@ -1,10 +1,16 @@
 package umc.meme.shop.domain.favorite.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import umc.meme.shop.domain.artist.entity.Artist;
 import umc.meme.shop.domain.favorite.entity.FavoriteArtist;
 import umc.meme.shop.domain.model.entity.Model;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +18,19 @@ public interface FavoriteArtistRepository extends JpaRepository<FavoriteArtist,
     List<FavoriteArtist> findByModel(Model model);
     boolean existsByModelAndArtistId(Model model, Long userId);
     Optional<FavoriteArtist> findByModelAndArtistId(Model model, Long userId);
+
+    //모델의 관심 아티스트 ID (FavoriteCache 적재용)
+    @Query("SELECT f.artistId FROM FavoriteArtist f WHERE f.model.userId = :modelId")
+    List<Long> findArtistIdsByModelId(@Param("modelId") Long modelId);
+
+    //관심 아티스트 ID 페이지 (최근 추가 순)
+    @Query(value = "SELECT f.artistId FROM FavoriteArtist f WHERE f.model.userId = :modelId " +
+            "ORDER BY f.createdAt DESC, f.favoriteArtistId DESC",
+            countQuery = "SELECT COUNT(f) FROM FavoriteArtist f WHERE f.model.userId = :modelId")
+    Page<Long> findArtistIdPageByModelId(@Param("modelId") Long modelId, Pageable pageable);
+
+    //모델의 관심 아티스트 일괄 삭제 (write-behind flush)
+    @Modifying
+    @Query("DELETE FROM FavoriteArtist f WHERE f.model.userId = :modelId AND f.artistId IN :artistIds")
+    int deleteByModelIdAndArtistIdIn(@Param("modelId") Long modelId, @Param("artistIds") Collection<Long> artistIds);
 }
@@ -1,10 +1,16 @@
 package umc.meme.shop.domain.favorite.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import umc.meme.shop.domain.favorite.entity.FavoritePortfolio;
 import umc.meme.shop.domain.model.entity.Model;
 import umc.meme.shop.domain.portfolio.entity.Portfolio;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +18,19 @@ public interface FavoritePortfolioRepository extends JpaRepository<FavoritePortf
     List<FavoritePortfolio> findByModel(Model model);
     boolean existsByModelAndPortfolio(Model model, Portfolio portfolio);
     Optional<FavoritePortfolio> findByModelAndPortfolio(Model model, Portfolio portfolio);
+
+    //모델의 관심 포트폴리오 ID (FavoriteCache 적재용)
+    @Query("SELECT f.portfolio.portfolioId FROM FavoritePortfolio f WHERE f.model.userId = :modelId")
+    List<Long> findPortfolioIdsByModelId(@Param("modelId") Long modelId);
+
+    //관심 포트폴리오 ID 페이지 (최근 추가 순)
+    @Query(value = "SELECT f.portfolio.portfolioId FROM FavoritePortfolio f WHERE f.model.userId = :modelId " +
+            "ORDER BY f.createdAt DESC, f.favoritePortfolioId DESC",
+            countQuery = "SELECT COUNT(f) FROM FavoritePortfolio f WHERE f.model.userId = :modelId")
+    Page<Long> findPortfolioIdPageByModelId(@Param("modelId") Long modelId, Pageable pageable);
+
+    //모델의 관심 포트폴리오 일괄 삭제 (write-behind flush)
+    @Modifying
+    @Query("DELETE FROM FavoritePortfolio f WHERE f.model.userId = :modelId AND f.portfolio.portfolioId IN :portfolioIds")
+    int deleteByModelIdAndPortfolioIdIn(@Param("modelId") Long modelId, @Param("portfolioIds") Collection<Long> portfolioIds);
 }
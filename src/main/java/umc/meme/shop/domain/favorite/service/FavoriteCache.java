@@ -0,0 +1,218 @@
+package umc.meme.shop.domain.favorite.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import umc.meme.shop.domain.favorite.repository.FavoriteArtistRepository;
+import umc.meme.shop.domain.favorite.repository.FavoritePortfolioRepository;
+import umc.meme.shop.global.enums.FavoriteType;
+import umc.meme.shop.global.util.AfterCommit;
+import umc.meme.shop.global.util.LongHashSet;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 모델별 관심 아티스트 / 관심 포트폴리오 ID 캐시
+ * 처음 조회할 때 모델의 관심 ID 를 쿼리 2번으로 읽어 long 집합에 담아 두고, 이후 isFavorite 는 메모리에서 확인한다.
+ * 관심 추가/삭제는 커밋된 뒤에만 캐시에 반영하고, 일정 시간 조회가 없던 모델은 비운다.
+ * write-behind 버퍼에 기록된 변경은 바로 반영하고, DB 에 반영될 때까지 해당 모델을 비우지 않는다.
+ */
+@Slf4j
+@Component
+public class FavoriteCache {
+    private final FavoriteArtistRepository favoriteArtistRepository;
+    private final FavoritePortfolioRepository favoritePortfolioRepository;
+    private final Clock clock;
+    private final long idleMillis;
+
+    //modelId -> 관심 ID 집합
+    private final Map<Long, ModelFavorites> cache = new ConcurrentHashMap<>();
+
+    public FavoriteCache(FavoriteArtistRepository favoriteArtistRepository,
+                         FavoritePortfolioRepository favoritePortfolioRepository,
+                         Clock clock,
+                         @Value("${meme.favorite.cache-idle:PT30M}") Duration idle) {
+        this.favoriteArtistRepository = favoriteArtistRepository;
+        this.favoritePortfolioRepository = favoritePortfolioRepository;
+        this.clock = clock;
+        this.idleMillis = idle.toMillis();
+    }
+
+    public boolean isFavoriteArtist(Long modelId, Long artistId) {
+        if (modelId == null || artistId == null)
+            return false;
+        return get(modelId).containsArtist(artistId);
+    }
+
+    public boolean isFavoritePortfolio(Long modelId, Long portfolioId) {
+        if (modelId == null || portfolioId == null)
+            return false;
+        return get(modelId).containsPortfolio(portfolioId);
+    }
+
+    public boolean isFavorite(FavoriteType type, Long modelId, Long targetId) {
+        return type == FavoriteType.ARTIST ? isFavoriteArtist(modelId, targetId) : isFavoritePortfolio(modelId, targetId);
+    }
+
+    //목록 중 관심 포트폴리오인 ID
+    public Set<Long> favoritePortfolioIds(Long modelId, Collection<Long> portfolioIds) {
+        if (modelId == null || portfolioIds.isEmpty())
+            return Set.of();
+        return get(modelId).filterPortfolios(portfolioIds);
+    }
+
+    //모델의 관심 포트폴리오 ID 전체
+    public long[] favoritePortfolioIds(Long modelId) {
+        if (modelId == null)
+            return new long[0];
+        return get(modelId).portfolioIds();
+    }
+
+    public void addArtist(Long modelId, Long artistId) {
+        AfterCommit.run(() -> cache.computeIfPresent(modelId, (key, favorites) -> favorites.addArtist(artistId)));
+    }
+
+    public void removeArtist(Long modelId, Long artistId) {
+        AfterCommit.run(() -> cache.computeIfPresent(modelId, (key, favorites) -> favorites.removeArtist(artistId)));
+    }
+
+    public void addPortfolio(Long modelId, Long portfolioId) {
+        AfterCommit.run(() -> cache.computeIfPresent(modelId, (key, favorites) -> favorites.addPortfolio(portfolioId)));
+    }
+
+    public void removePortfolio(Long modelId, Long portfolioId) {
+        AfterCommit.run(() -> cache.computeIfPresent(modelId, (key, favorites) -> favorites.removePortfolio(portfolioId)));
+    }
+
+    //버퍼에 기록된 변경 반영 (newlyBuffered: 버퍼에 새로 생긴 키면 flush 될 때까지 eviction 제외)
+    public void applyBuffered(FavoriteType type, Long modelId, Long targetId, boolean favorite, boolean newlyBuffered) {
+        cache.compute(modelId, (key, favorites) -> {
+            ModelFavorites target = favorites != null ? favorites : load(key);
+            target.set(type, targetId, favorite);
+            if (newlyBuffered)
+                target.buffered++;
+            target.lastAccess = clock.millis();
+            return target;
+        });
+    }
+
+    //반영하지 못하고 버린 버퍼 키의 상태를 DB 상태로 되돌림 (버퍼 해제는 releaseBuffered)
+    public void revertBuffered(FavoriteType type, Long modelId, Long targetId, boolean persisted) {
+        cache.computeIfPresent(modelId, (key, favorites) -> {
+            favorites.set(type, targetId, persisted);
+            return favorites;
+        });
+    }
+
+    //버퍼의 키 하나가 DB 에 반영됨
+    public void releaseBuffered(Long modelId) {
+        cache.computeIfPresent(modelId, (key, favorites) -> {
+            favorites.buffered--;
+            return favorites;
+        });
+    }
+
+    //오래 조회되지 않은 모델 정리 (버퍼에 남은 변경이 있는 모델은 유지)
+    @Scheduled(fixedDelayString = "${meme.favorite.cache-evict-interval:PT5M}")
+    public void evictIdle() {
+        long threshold = clock.millis() - idleMillis;
+        int before = cache.size();
+        for (Long modelId : cache.keySet()) {
+            cache.computeIfPresent(modelId, (key, favorites) ->
+                    favorites.buffered == 0 && favorites.lastAccess < threshold ? null : favorites);
+        }
+        int evicted = before - cache.size();
+        if (evicted > 0)
+            log.debug("favorite cache evicted : {} models", evicted);
+    }
+
+    /*
+     * 적재를 computeIfAbsent 안에서 하므로 같은 모델의 커밋 후 갱신(computeIfPresent)은 적재가 끝날 때까지 기다렸다가 반영된다.
+     * 커밋 전 데이터를 읽은 적재 결과에도 그 커밋의 변경이 빠지지 않는다.
+     */
+    private ModelFavorites get(Long modelId) {
+        ModelFavorites favorites = cache.computeIfAbsent(modelId, this::load);
+        favorites.lastAccess = clock.millis();
+        return favorites;
+    }
+
+    private ModelFavorites load(Long modelId) {
+        List<Long> artistIds = favoriteArtistRepository.findArtistIdsByModelId(modelId);
+        List<Long> portfolioIds = favoritePortfolioRepository.findPortfolioIdsByModelId(modelId);
+        return new ModelFavorites(toSet(artistIds), toSet(portfolioIds), clock.millis());
+    }
+
+    private static LongHashSet toSet(List<Long> ids) {
+        LongHashSet set = new LongHashSet(ids.size());
+        ids.forEach(set::add);
+        return set;
+    }
+
+    //한 모델의 관심 ID (집합 접근은 객체 단위로 동기화)
+    private static final class ModelFavorites {
+        private final LongHashSet artistIds;
+        private final LongHashSet portfolioIds;
+        private volatile long lastAccess;
+        //아직 flush 되지 않은 버퍼 키 수 (cache.compute 안에서만 변경)
+        private int buffered;
+
+        private ModelFavorites(LongHashSet artistIds, LongHashSet portfolioIds, long lastAccess) {
+            this.artistIds = artistIds;
+            this.portfolioIds = portfolioIds;
+            this.lastAccess = lastAccess;
+        }
+
+        private synchronized boolean containsArtist(long artistId) {
+            return artistIds.contains(artistId);
+        }
+
+        private synchronized boolean containsPortfolio(long portfolioId) {
+            return portfolioIds.contains(portfolioId);
+        }
+
+        private synchronized Set<Long> filterPortfolios(Collection<Long> candidates) {
+            Set<Long> result = new HashSet<>();
+            for (Long portfolioId : candidates) {
+                if (portfolioId != null && portfolioIds.contains(portfolioId))
+                    result.add(portfolioId);
+            }
+            return result;
+        }
+
+        private synchronized long[] portfolioIds() {
+            return portfolioIds.toArray();
+        }
+
+        private synchronized void set(FavoriteType type, long targetId, boolean favorite) {
+            LongHashSet ids = type == FavoriteType.ARTIST ? artistIds : portfolioIds;
+            if (favorite)
+                ids.add(targetId);
+            else
+                ids.remove(targetId);
+        }
+
+        private synchronized ModelFavorites addArtist(long artistId) {
+            artistIds.add(artistId);
+            return this;
+        }
+
+        private synchronized ModelFavorites removeArtist(long artistId) {
+            artistIds.remove(artistId);
+            return this;
+        }
+
+        private synchronized ModelFavorites addPortfolio(long portfolioId) {
+            portfolioIds.add(portfolioId);
+            return this;
+        }
+
+        private synchronized ModelFavorites removePortfolio(long portfolioId) {
+            portfolioIds.remove(portfolioId);
+            return this;
+        }
+    }
+}
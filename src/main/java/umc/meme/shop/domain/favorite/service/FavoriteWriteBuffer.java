@@ -0,0 +1,288 @@
+package umc.meme.shop.domain.favorite.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import umc.meme.shop.domain.artist.repository.ArtistRepository;
+import umc.meme.shop.domain.favorite.entity.FavoriteArtist;
+import umc.meme.shop.domain.favorite.entity.FavoritePortfolio;
+import umc.meme.shop.domain.favorite.repository.FavoriteArtistRepository;
+import umc.meme.shop.domain.favorite.repository.FavoritePortfolioRepository;
+import umc.meme.shop.domain.model.entity.Model;
+import umc.meme.shop.domain.model.repository.ModelRepository;
+import umc.meme.shop.domain.popularity.service.PopularityCounterService;
+import umc.meme.shop.domain.popularity.service.TrendingService;
+import umc.meme.shop.domain.portfolio.repository.PortfolioRepository;
+import umc.meme.shop.domain.portfolio.service.PortfolioCounterService;
+import umc.meme.shop.global.ErrorStatus;
+import umc.meme.shop.global.enums.FavoriteType;
+import umc.meme.shop.global.enums.FavoriteWriteMode;
+import umc.meme.shop.global.enums.PopularityTarget;
+import umc.meme.shop.global.exception.GlobalException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 관심 아티스트/메이크업 추가·삭제 write-behind 버퍼
+ * 같은 (모델, 대상)에 대한 연속 토글은 마지막 상태 하나로 합쳐 두고, flush 주기마다 처음 상태와 달라진 키만
+ * 한 트랜잭션에서 일괄 INSERT/DELETE 한다. 버퍼의 상태는 FavoriteCache 에 바로 반영되므로 isFavorite 조회는 즉시 바뀐다.
+ * 일괄 반영이 실패하면 키별로 다시 반영하고, 일시적이지 않은 오류로 계속 실패하는 키(삭제된 대상 등)는 로그를 남기고 버린다.
+ * WRITE_BEHIND 모드에서는 DB 반영 전에 응답하므로, 프로세스가 비정상 종료되면 마지막 flush 이후의 변경은 유실될 수 있다.
+ * 정상 종료 시에는 남은 변경을 모두 flush 한다.
+ */
+@Slf4j
+@Component
+public class FavoriteWriteBuffer {
+    private final FavoriteArtistRepository favoriteArtistRepository;
+    private final FavoritePortfolioRepository favoritePortfolioRepository;
+    private final ModelRepository modelRepository;
+    private final ArtistRepository artistRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioCounterService portfolioCounterService;
+    private final PopularityCounterService popularityCounterService;
+    private final TrendingService trendingService;
+    private final FavoriteCache favoriteCache;
+    private final TransactionTemplate transactionTemplate;
+    private final FavoriteWriteMode mode;
+    private final int maxAttempts;
+
+    //(모델, 대상) -> flush 대기 중인 상태
+    private final Map<FavoriteKey, PendingFavorite> pending = new ConcurrentHashMap<>();
+
+    public FavoriteWriteBuffer(FavoriteArtistRepository favoriteArtistRepository,
+                               FavoritePortfolioRepository favoritePortfolioRepository,
+                               ModelRepository modelRepository,
+                               ArtistRepository artistRepository,
+                               PortfolioRepository portfolioRepository,
+                               PortfolioCounterService portfolioCounterService,
+                               PopularityCounterService popularityCounterService,
+                               TrendingService trendingService,
+                               FavoriteCache favoriteCache,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${meme.favorite.write-mode:WRITE_BEHIND}") FavoriteWriteMode mode,
+                               @Value("${meme.favorite.max-attempts:5}") int maxAttempts) {
+        this.favoriteArtistRepository = favoriteArtistRepository;
+        this.favoritePortfolioRepository = favoritePortfolioRepository;
+        this.modelRepository = modelRepository;
+        this.artistRepository = artistRepository;
+        this.portfolioRepository = portfolioRepository;
+        this.portfolioCounterService = portfolioCounterService;
+        this.popularityCounterService = popularityCounterService;
+        this.trendingService = trendingService;
+        this.favoriteCache = favoriteCache;
+        this.transactionTemplate = transactionTemplate;
+        this.mode = mode;
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    public boolean isWriteBehind() {
+        return mode == FavoriteWriteMode.WRITE_BEHIND;
+    }
+
+    public void addArtist(Long modelId, Long artistId) {
+        toggle(new FavoriteKey(FavoriteType.ARTIST, modelId, artistId), true);
+    }
+
+    public void removeArtist(Long modelId, Long artistId) {
+        toggle(new FavoriteKey(FavoriteType.ARTIST, modelId, artistId), false);
+    }
+
+    public void addPortfolio(Long modelId, Long portfolioId) {
+        toggle(new FavoriteKey(FavoriteType.PORTFOLIO, modelId, portfolioId), true);
+    }
+
+    public void removePortfolio(Long modelId, Long portfolioId) {
+        toggle(new FavoriteKey(FavoriteType.PORTFOLIO, modelId, portfolioId), false);
+    }
+
+    @Scheduled(fixedDelayString = "${meme.favorite.flush-interval:PT1S}")
+    public void flush() {
+        flush(key -> true);
+    }
+
+    //관심 목록 조회 전에 해당 모델의 변경만 먼저 반영
+    public void flush(Long modelId) {
+        flush(key -> key.modelId().equals(modelId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        if (!pending.isEmpty())
+            log.error("favorite write buffer closed with {} unflushed changes", pending.size());
+    }
+
+    //대상 키의 상태 변경은 pending.compute 안에서 처리해 같은 키의 요청과 flush 를 직렬화한다
+    private void toggle(FavoriteKey key, boolean favorite) {
+        boolean validated = false;
+        while (true) {
+            //버퍼에 처음 들어오는 키만 모델/대상 존재 여부를 확인하고 모델 관심 목록을 적재해 둔다
+            //(DB 조회는 compute 의 bin 락 밖에서, compute 안에서는 캐시만 읽는다)
+            if (!validated && !pending.containsKey(key)) {
+                validate(key);
+                favoriteCache.isFavorite(key.type(), key.modelId(), key.targetId());
+                validated = true;
+            }
+            boolean checked = validated;
+            boolean[] retry = {false};
+            pending.compute(key, (k, current) -> {
+                //containsKey 이후 flush 로 키가 빠졌으면 밖에서 확인한 뒤 다시 시도
+                if (current == null && !checked) {
+                    retry[0] = true;
+                    return null;
+                }
+
+                boolean state = current != null ? current.favorite() : favoriteCache.isFavorite(k.type(), k.modelId(), k.targetId());
+                if (state == favorite)
+                    throw new GlobalException(errorOf(k.type(), favorite));
+
+                favoriteCache.applyBuffered(k.type(), k.modelId(), k.targetId(), favorite, current == null);
+                return current != null
+                        ? new PendingFavorite(favorite, current.persisted(), current.attempts())
+                        : new PendingFavorite(favorite, state, 0);
+            });
+            if (!retry[0])
+                return;
+        }
+    }
+
+    private synchronized void flush(Predicate<FavoriteKey> filter) {
+        if (pending.isEmpty())
+            return;
+
+        Map<FavoriteKey, PendingFavorite> batch = new HashMap<>();
+        for (FavoriteKey key : pending.keySet()) {
+            if (!filter.test(key))
+                continue;
+            PendingFavorite removed = pending.remove(key);
+            if (removed != null)
+                batch.put(key, removed);
+        }
+
+        //처음 상태로 되돌아간 키는 쓰지 않는다
+        Map<FavoriteKey, PendingFavorite> changed = new HashMap<>();
+        batch.forEach((key, value) -> {
+            if (value.favorite() != value.persisted())
+                changed.put(key, value);
+        });
+
+        Set<FavoriteKey> requeued = new HashSet<>();
+        if (!changed.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(changed));
+            } catch (RuntimeException e) {
+                //한 키가 계속 실패해도 나머지 변경이 막히지 않도록 키별로 다시 반영하고, 실패한 키만 버퍼로 돌린다
+                log.warn("favorite flush failed, retrying per key : {}", e.getMessage());
+                changed.forEach((key, value) -> {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> write(Map.of(key, value)));
+                    } catch (RuntimeException keyFailure) {
+                        if (requeue(key, value, keyFailure))
+                            requeued.add(key);
+                    }
+                });
+            }
+        }
+
+        batch.keySet().stream()
+                .filter(key -> !requeued.contains(key))
+                .forEach(key -> favoriteCache.releaseBuffered(key.modelId()));
+    }
+
+    /*
+     * 그 사이 새 토글이 들어왔으면 최신 상태에 DB 상태만 맞춰 둔다 (true: 실패한 키가 그대로 버퍼에 남음)
+     * 락 경합/연결 실패 같은 일시적 오류는 횟수에 세지 않고, 그 밖의 오류로 maxAttempts 번 실패한 키는 버리고 캐시를 DB 상태로 되돌린다.
+     */
+    private boolean requeue(FavoriteKey key, PendingFavorite failed, RuntimeException cause) {
+        boolean transientFailure = cause instanceof TransientDataAccessException
+                || cause instanceof CannotCreateTransactionException;
+        int attempts = transientFailure ? failed.attempts() : failed.attempts() + 1;
+        boolean[] kept = {false};
+        pending.compute(key, (k, newer) -> {
+            if (newer != null)
+                return new PendingFavorite(newer.favorite(), failed.persisted(), attempts);
+            if (attempts >= maxAttempts) {
+                log.error("favorite change dropped after {} attempts : {} {} -> {} ({})",
+                        attempts, k.type(), k.modelId(), k.targetId(), cause.getMessage());
+                favoriteCache.revertBuffered(k.type(), k.modelId(), k.targetId(), failed.persisted());
+                return null;
+            }
+            kept[0] = true;
+            return new PendingFavorite(failed.favorite(), failed.persisted(), attempts);
+        });
+        return kept[0];
+    }
+
+    private void write(Map<FavoriteKey, PendingFavorite> changed) {
+        List<FavoriteArtist> artistInserts = new ArrayList<>();
+        List<FavoritePortfolio> portfolioInserts = new ArrayList<>();
+        Map<Long, List<Long>> artistDeletes = new HashMap<>();
+        Map<Long, List<Long>> portfolioDeletes = new HashMap<>();
+        Map<Long, Integer> artistDeltas = new HashMap<>();
+        Map<Long, Integer> portfolioDeltas = new HashMap<>();
+
+        changed.forEach((key, value) -> {
+            boolean artist = key.type() == FavoriteType.ARTIST;
+            if (value.favorite()) {
+                Model model = modelRepository.getReferenceById(key.modelId());
+                if (artist)
+                    artistInserts.add(FavoriteArtist.of(model, key.targetId()));
+                else
+                    portfolioInserts.add(FavoritePortfolio.from(model, portfolioRepository.getReferenceById(key.targetId())));
+            } else {
+                (artist ? artistDeletes : portfolioDeletes)
+                        .computeIfAbsent(key.modelId(), id -> new ArrayList<>())
+                        .add(key.targetId());
+            }
+            (artist ? artistDeltas : portfolioDeltas).merge(key.targetId(), value.favorite() ? 1 : -1, Integer::sum);
+            if (!artist && value.favorite())
+                trendingService.recordFavorite(key.modelId(), key.targetId());
+        });
+
+        artistDeletes.forEach(favoriteArtistRepository::deleteByModelIdAndArtistIdIn);
+        portfolioDeletes.forEach(favoritePortfolioRepository::deleteByModelIdAndPortfolioIdIn);
+        favoriteArtistRepository.saveAll(artistInserts);
+        favoritePortfolioRepository.saveAll(portfolioInserts);
+
+        artistDeltas.forEach((artistId, delta) -> {
+            if (delta == 0)
+                return;
+            artistRepository.updateCounters(artistId, 0, delta, 0);
+            popularityCounterService.recordFavorite(PopularityTarget.ARTIST, artistId, delta);
+        });
+        portfolioDeltas.forEach((portfolioId, delta) -> {
+            portfolioCounterService.changeFavorites(portfolioId, delta);
+            if (delta != 0)
+                popularityCounterService.recordFavorite(PopularityTarget.PORTFOLIO, portfolioId, delta);
+        });
+    }
+
+    private void validate(FavoriteKey key) {
+        if (!modelRepository.existsById(key.modelId()))
+            throw new GlobalException(ErrorStatus.NOT_EXIST_MODEL);
+        if (key.type() == FavoriteType.ARTIST && !artistRepository.existsById(key.targetId()))
+            throw new GlobalException(ErrorStatus.NOT_EXIST_ARTIST);
+        if (key.type() == FavoriteType.PORTFOLIO && !portfolioRepository.existsById(key.targetId()))
+            throw new GlobalException(ErrorStatus.NOT_EXIST_PORTFOLIO);
+    }
+
+    private ErrorStatus errorOf(FavoriteType type, boolean favorite) {
+        if (type == FavoriteType.ARTIST)
+            return favorite ? ErrorStatus.ALREADY_EXIST_FAVORITE_ARTIST : ErrorStatus.NOT_EXIST_FAVORITE_ARTIST;
+        return favorite ? ErrorStatus.ALREADY_EXIST_FAVORITE_PORTFOLIO : ErrorStatus.NOT_EXIST_FAVORITE_PORTFOLIO;
+    }
+
+    private record FavoriteKey(FavoriteType type, Long modelId, Long targetId) {
+    }
+
+    //favorite: 최종 상태, persisted: 버퍼에 들어오기 전 DB 상태, attempts: 일시적이지 않은 오류로 반영에 실패한 횟수
+    private record PendingFavorite(boolean favorite, boolean persisted, int attempts) {
+    }
+}
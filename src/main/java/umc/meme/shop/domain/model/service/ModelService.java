@@ -2,8 +2,10 @@ package umc.meme.shop.domain.model.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import umc.meme.shop.domain.artist.dto.response.SimpleArtistDto;
 import umc.meme.shop.domain.artist.entity.Artist;
 import umc.meme.shop.domain.artist.repository.ArtistRepository;
@@ -15,25 +17,44 @@ import umc.meme.shop.domain.favorite.entity.FavoriteArtist;
 import umc.meme.shop.domain.favorite.entity.FavoritePortfolio;
 import umc.meme.shop.domain.favorite.repository.FavoriteArtistRepository;
 import umc.meme.shop.domain.favorite.repository.FavoritePortfolioRepository;
+import umc.meme.shop.domain.favorite.service.FavoriteCache;
+import umc.meme.shop.domain.favorite.service.FavoriteWriteBuffer;
 import umc.meme.shop.domain.model.dto.request.ModelProfileDto;
 import umc.meme.shop.domain.model.entity.Model;
 import umc.meme.shop.domain.model.repository.ModelRepository;
+import umc.meme.shop.domain.popularity.service.PopularityCounterService;
+import umc.meme.shop.domain.popularity.service.TrendingService;
 import umc.meme.shop.domain.portfolio.entity.Portfolio;
 import umc.meme.shop.domain.portfolio.repository.PortfolioRepository;
+import umc.meme.shop.domain.portfolio.service.PortfolioCardReader;
+import umc.meme.shop.domain.portfolio.service.PortfolioCounterService;
 import umc.meme.shop.global.ErrorStatus;
+import umc.meme.shop.global.enums.PopularityTarget;
 import umc.meme.shop.global.exception.GlobalException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ModelService {
+    private static final int PAGE_SIZE = 30;
+
     private final ModelRepository modelRepository;
     private final ArtistRepository artistRepository;
     private final FavoriteArtistRepository favoriteArtistRepository;
     private final FavoritePortfolioRepository favoritePortfolioRepository;
     private final PortfolioRepository portfolioRepository;
+    private final PortfolioCardReader portfolioCardReader;
+    private final PortfolioCounterService portfolioCounterService;
+    private final FavoriteCache favoriteCache;
+    private final FavoriteWriteBuffer favoriteWriteBuffer;
+    private final PopularityCounterService popularityCounterService;
+    private final TrendingService trendingService;
+    private final TransactionTemplate transactionTemplate;
 
     /**temp model create method**/
     @Transactional
@@ -60,42 +81,51 @@ public class ModelService {
     }
 
 
-    //관심 아티스트 조회
-    @Transactional
+    //관심 아티스트 조회 (ID 페이지 + 아티스트 일괄 조회)
     public FavoriteArtistPageResponseDto getFavoriteArtist(Long modelId, int page){
-        Model model = modelRepository.findById(modelId)
-                .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_MODEL));
-
-        //paging
-        List<FavoriteArtist> favoriteArtistList = model.getFavoriteArtistList();
-        Page<FavoriteArtist> favoriteArtistPage = getPage(page, favoriteArtistList);
-
-        //관심 아티스트 리스트
-        List<SimpleArtistDto> content = favoriteArtistPage.getContent().stream()
-                .map(favoriteArtist -> artistRepository.findById(favoriteArtist.getArtistId())
-                        .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_ARTIST)))
+        if (!modelRepository.existsById(modelId))
+            throw new GlobalException(ErrorStatus.NOT_EXIST_MODEL);
+        favoriteWriteBuffer.flush(modelId);
+
+        Page<Long> artistIdPage = favoriteArtistRepository.findArtistIdPageByModelId(modelId, PageRequest.of(page, PAGE_SIZE));
+
+        //관심 추가 순서 유지 (탈퇴 등으로 없어진 아티스트는 제외)
+        Map<Long, Artist> artistMap = artistRepository.findAllById(artistIdPage.getContent()).stream()
+                .collect(Collectors.toMap(Artist::getUserId, Function.identity()));
+        List<SimpleArtistDto> content = artistIdPage.getContent().stream()
+                .map(artistMap::get)
+                .filter(Objects::nonNull)
                 .map(SimpleArtistDto::from)
-                .collect(Collectors.toList());
+                .toList();
 
-        return FavoriteArtistPageResponseDto.from(favoriteArtistPage, content);
+        return FavoriteArtistPageResponseDto.from(artistIdPage, content);
     }
 
-    //관심 메이크업 조회
-    @Transactional
+    //관심 메이크업 조회 (ID 페이지 + 카드/대표 이미지 일괄 조회)
     public FavoritePortfolioResponsePageDto getFavoritePortfolio(Long modelId, int page){
-        Model model = modelRepository.findById(modelId)
-                .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_MODEL));
+        if (!modelRepository.existsById(modelId))
+            throw new GlobalException(ErrorStatus.NOT_EXIST_MODEL);
+        favoriteWriteBuffer.flush(modelId);
 
-        //list를 page로 변환
-        List<FavoritePortfolio> favoritePortfolioList = model.getFavoritePortfolioList();
-        Page<FavoritePortfolio> favoritePortfolioPage = getPage(page, favoritePortfolioList);
+        Page<Long> portfolioIdPage = favoritePortfolioRepository.findPortfolioIdPageByModelId(modelId, PageRequest.of(page, PAGE_SIZE));
+        List<Long> portfolioIdList = portfolioIdPage.getContent();
+        if (portfolioIdList.isEmpty())
+            return FavoritePortfolioResponsePageDto.from(portfolioIdPage, List.of());
 
-        return FavoritePortfolioResponsePageDto.from(favoritePortfolioPage);
+        return FavoritePortfolioResponsePageDto.from(portfolioIdPage, portfolioCardReader.readSimple(portfolioIdList));
     }
 
     //관심 아티스트 추가
-    @Transactional
     public void addFavoriteArtist(FavoriteArtistDto favoriteArtistDto) {
+        //write-behind: 버퍼에 기록하고 바로 응답 (FavoriteWriteBuffer 가 주기적으로 일괄 반영)
+        if (favoriteWriteBuffer.isWriteBehind()) {
+            favoriteWriteBuffer.addArtist(favoriteArtistDto.getModelId(), favoriteArtistDto.getArtistId());
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> addFavoriteArtistNow(favoriteArtistDto));
+    }
+
+    private void addFavoriteArtistNow(FavoriteArtistDto favoriteArtistDto) {
         Model model = modelRepository.findById(favoriteArtistDto.getModelId())
                 .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_MODEL));
 
@@ -110,11 +140,21 @@ public class ModelService {
         FavoriteArtist favoriteArtist = FavoriteArtist.from(artist, model);
         model.updateFavoriteArtistList(favoriteArtist);
         favoriteArtistRepository.save(favoriteArtist);
+        artistRepository.updateCounters(artist.getUserId(), 0, 1, 0);
+        favoriteCache.addArtist(model.getUserId(), artist.getUserId());
+        popularityCounterService.recordFavorite(PopularityTarget.ARTIST, artist.getUserId(), 1);
     }
 
     //관심 메이크업 추가
-    @Transactional
     public void addFavoritePortfolio(FavoritePortfolioDto favoritePortfolioDto) {
+        if (favoriteWriteBuffer.isWriteBehind()) {
+            favoriteWriteBuffer.addPortfolio(favoritePortfolioDto.getModelId(), favoritePortfolioDto.getPortfolioId());
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> addFavoritePortfolioNow(favoritePortfolioDto));
+    }
+
+    private void addFavoritePortfolioNow(FavoritePortfolioDto favoritePortfolioDto) {
         Model model = modelRepository.findById(favoritePortfolioDto.getModelId())
                 .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_MODEL));
 
@@ -128,12 +168,23 @@ public class ModelService {
 
         FavoritePortfolio favoritePortfolio = FavoritePortfolio.from(model, portfolio);
         model.updateFavoritePortfolioList(favoritePortfolio);
+        portfolioCounterService.addFavorite(portfolio.getPortfolioId());
         favoritePortfolioRepository.save(favoritePortfolio);
+        favoriteCache.addPortfolio(model.getUserId(), portfolio.getPortfolioId());
+        popularityCounterService.recordFavorite(PopularityTarget.PORTFOLIO, portfolio.getPortfolioId(), 1);
+        trendingService.recordFavorite(model.getUserId(), portfolio.getPortfolioId());
     }
 
     //관심 아티스트 삭제
-    @Transactional
-    public void deleteFavoriteArtist(FavoriteArtistDto favoriteArtistDto){
+    public void deleteFavoriteArtist(FavoriteArtistDto favoriteArtistDto) {
+        if (favoriteWriteBuffer.isWriteBehind()) {
+            favoriteWriteBuffer.removeArtist(favoriteArtistDto.getModelId(), favoriteArtistDto.getArtistId());
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> deleteFavoriteArtistNow(favoriteArtistDto));
+    }
+
+    private void deleteFavoriteArtistNow(FavoriteArtistDto favoriteArtistDto) {
         Model model = modelRepository.findById(favoriteArtistDto.getModelId())
                 .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_MODEL));
 
@@ -143,11 +194,21 @@ public class ModelService {
         FavoriteArtist favoriteArtist = favoriteArtistRepository.findByModelAndArtistId(model, artist.getUserId())
                 .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_FAVORITE_ARTIST));
         favoriteArtistRepository.delete(favoriteArtist);
+        artistRepository.updateCounters(artist.getUserId(), 0, -1, 0);
+        favoriteCache.removeArtist(model.getUserId(), artist.getUserId());
+        popularityCounterService.recordFavorite(PopularityTarget.ARTIST, artist.getUserId(), -1);
     }
 
     //관심 메이크업 삭제
-    @Transactional
     public void deleteFavoritePortfolio(FavoritePortfolioDto favoritePortfolioDto) {
+        if (favoriteWriteBuffer.isWriteBehind()) {
+            favoriteWriteBuffer.removePortfolio(favoritePortfolioDto.getModelId(), favoritePortfolioDto.getPortfolioId());
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> deleteFavoritePortfolioNow(favoritePortfolioDto));
+    }
+
+    private void deleteFavoritePortfolioNow(FavoritePortfolioDto favoritePortfolioDto) {
         Model model = modelRepository.findById(favoritePortfolioDto.getModelId())
                 .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_MODEL));
 
@@ -156,18 +217,10 @@ public class ModelService {
 
         FavoritePortfolio favoritePortfolio = favoritePortfolioRepository.findByModelAndPortfolio(model, portfolio)
                 .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_FAVORITE_PORTFOLIO));
+        portfolioCounterService.removeFavorite(portfolio.getPortfolioId());
         favoritePortfolioRepository.delete(favoritePortfolio);
-    }
-
-    private Page getPage(int page, List list){
-        Pageable pageable = PageRequest.of(page, 30);
-
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), list.size());
-
-        //list를 page로 변환
-        return new PageImpl<>(list.subList(start, end),
-                pageable, list.size());
+        favoriteCache.removePortfolio(model.getUserId(), portfolio.getPortfolioId());
+        popularityCounterService.recordFavorite(PopularityTarget.PORTFOLIO, portfolio.getPortfolioId(), -1);
     }
 
 }
@@ -9,6 +9,7 @@ import umc.meme.shop.domain.common.BaseEntity;
 import umc.meme.shop.domain.mypage.dto.request.MypageInquiryDto;
 import umc.meme.shop.domain.user.User;
 import umc.meme.shop.domain.user.UserRepository;
+import umc.meme.shop.global.util.SnowflakeId;
 
 @Builder
 @Getter
@@ -17,7 +18,7 @@ import umc.meme.shop.domain.user.UserRepository;
 @Entity
 public class Inquiry extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "inquiry_id")
     private Long inquiryId;
 
@@ -0,0 +1,8 @@
+package umc.meme.shop.domain.popularity.dto;
+
+import umc.meme.shop.global.enums.PopularityTarget;
+
+//flush 한 번에 반영할 대상별 증감분
+public record PopularityDelta(PopularityTarget targetType, Long targetId,
+                              long viewCount, long favoriteCount, long reservationCount, long score) {
+}
@@ -0,0 +1,44 @@
+package umc.meme.shop.domain.popularity.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import umc.meme.shop.global.enums.PopularityTarget;
+
+/**
+ * 포트폴리오/아티스트 인기도 누적 카운터
+ * 조회/관심/예약 수를 요청마다 쓰지 않고 PopularityCounterService 가 메모리에 모아 두었다가 주기적으로 증감분만 upsert 한다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_popularity_counter_target", columnNames = {"target_type", "target_id"}))
+public class PopularityCounter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long counterId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private PopularityTarget targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(nullable = false, columnDefinition = "BIGINT default 0")
+    private long viewCount;
+
+    @Column(nullable = false, columnDefinition = "BIGINT default 0")
+    private long favoriteCount;
+
+    @Column(nullable = false, columnDefinition = "BIGINT default 0")
+    private long reservationCount;
+
+    //가중 합 (조회 + 관심 + 예약)
+    @Column(nullable = false, columnDefinition = "BIGINT default 0")
+    private long score;
+}
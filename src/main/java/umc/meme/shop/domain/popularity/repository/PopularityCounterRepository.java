@@ -0,0 +1,14 @@
+package umc.meme.shop.domain.popularity.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import umc.meme.shop.domain.popularity.entity.PopularityCounter;
+import umc.meme.shop.global.enums.PopularityTarget;
+
+import java.util.List;
+
+public interface PopularityCounterRepository extends JpaRepository<PopularityCounter, Long>, PopularityCounterRepositoryCustom {
+    @Query("SELECT c.targetId AS targetId, c.score AS score FROM PopularityCounter c WHERE c.targetType = :targetType")
+    List<PopularityScoreView> findScores(@Param("targetType") PopularityTarget targetType);
+}
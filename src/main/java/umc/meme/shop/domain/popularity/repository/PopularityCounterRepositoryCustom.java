@@ -0,0 +1,10 @@
+package umc.meme.shop.domain.popularity.repository;
+
+import umc.meme.shop.domain.popularity.dto.PopularityDelta;
+
+import java.util.List;
+
+public interface PopularityCounterRepositoryCustom {
+    //카운터 테이블 upsert + 포트폴리오 인기도 컬럼 갱신을 JDBC batch 로 실행
+    void applyDeltas(List<PopularityDelta> deltas);
+}
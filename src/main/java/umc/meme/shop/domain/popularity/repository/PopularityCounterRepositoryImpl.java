@@ -0,0 +1,52 @@
+package umc.meme.shop.domain.popularity.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import umc.meme.shop.domain.popularity.dto.PopularityDelta;
+import umc.meme.shop.domain.portfolio.entity.Portfolio;
+import umc.meme.shop.global.config.EntityCacheEvictor;
+import umc.meme.shop.global.enums.PopularityTarget;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PopularityCounterRepositoryImpl implements PopularityCounterRepositoryCustom {
+    private static final int BATCH_SIZE = 100;
+
+    private static final String UPSERT_COUNTER =
+            "INSERT INTO popularity_counter (target_type, target_id, view_count, favorite_count, reservation_count, score) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE view_count = view_count + VALUES(view_count), " +
+            "favorite_count = favorite_count + VALUES(favorite_count), " +
+            "reservation_count = reservation_count + VALUES(reservation_count), " +
+            "score = score + VALUES(score)";
+
+    private static final String UPDATE_PORTFOLIO_POPULARITY =
+            "UPDATE portfolio SET popularity = popularity + ? WHERE portfolio_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheEvictor entityCacheEvictor;
+
+    @Override
+    public void applyDeltas(List<PopularityDelta> deltas) {
+        jdbcTemplate.batchUpdate(UPSERT_COUNTER, deltas, BATCH_SIZE, (ps, delta) -> {
+            ps.setString(1, delta.targetType().name());
+            ps.setLong(2, delta.targetId());
+            ps.setLong(3, delta.viewCount());
+            ps.setLong(4, delta.favoriteCount());
+            ps.setLong(5, delta.reservationCount());
+            ps.setLong(6, delta.score());
+        });
+
+        //검색 정렬용 포트폴리오 인기도 컬럼
+        List<PopularityDelta> portfolioDeltas = deltas.stream()
+                .filter(delta -> delta.targetType() == PopularityTarget.PORTFOLIO && delta.score() != 0)
+                .toList();
+        jdbcTemplate.batchUpdate(UPDATE_PORTFOLIO_POPULARITY, portfolioDeltas, BATCH_SIZE, (ps, delta) -> {
+            ps.setLong(1, delta.score());
+            ps.setLong(2, delta.targetId());
+        });
+        entityCacheEvictor.evictAfterCommit(Portfolio.class,
+                portfolioDeltas.stream().map(PopularityDelta::targetId).toList());
+    }
+}
@@ -0,0 +1,7 @@
+package umc.meme.shop.domain.popularity.repository;
+
+//대상별 인기도 점수 projection
+public interface PopularityScoreView {
+    Long getTargetId();
+    long getScore();
+}
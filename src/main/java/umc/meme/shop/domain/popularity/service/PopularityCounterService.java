@@ -0,0 +1,170 @@
+package umc.meme.shop.domain.popularity.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import umc.meme.shop.domain.popularity.dto.PopularityDelta;
+import umc.meme.shop.domain.popularity.repository.PopularityCounterRepository;
+import umc.meme.shop.domain.popularity.repository.PopularityScoreView;
+import umc.meme.shop.domain.portfolio.service.PortfolioResultCache;
+import umc.meme.shop.global.enums.PopularityTarget;
+import umc.meme.shop.global.util.AfterCommit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 포트폴리오/아티스트 인기도 카운터
+ * 상세 조회, 관심 등록, 예약을 대상별 LongAdder 에 누적하고(요청 스레드는 락 없이 increment 만 함),
+ * flush 주기마다 증감분을 카운터 테이블과 Portfolio.popularity 에 JDBC batch 로 반영한다.
+ * 비정상 종료 시 마지막 flush 이후의 증감분은 유실될 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularityCounterService {
+    private static final int VIEW_WEIGHT = 1;
+    private static final int FAVORITE_WEIGHT = 10;
+    private static final int RESERVATION_WEIGHT = 30;
+
+    private final PopularityCounterRepository popularityCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PortfolioResultCache portfolioResultCache;
+
+    //(대상, ID) -> 아직 flush 되지 않은 증감분
+    private final Map<CounterKey, PendingCounts> pending = new ConcurrentHashMap<>();
+    //portfolioId -> DB 에 반영된 인기도 점수 (검색 색인 정렬용)
+    private final Map<Long, Long> portfolioScores = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (PopularityScoreView view : popularityCounterRepository.findScores(PopularityTarget.PORTFOLIO))
+            portfolioScores.put(view.getTargetId(), view.getScore());
+        log.info("popularity scores loaded : {} portfolios", portfolioScores.size());
+    }
+
+    //상세 조회
+    public void recordView(PopularityTarget targetType, Long targetId) {
+        add(targetType, targetId, counts -> counts.views.increment());
+    }
+
+    //관심 등록/해제 (커밋된 변경만 반영)
+    public void recordFavorite(PopularityTarget targetType, Long targetId, int delta) {
+        AfterCommit.run(() -> add(targetType, targetId, counts -> counts.favorites.add(delta)));
+    }
+
+    //예약 생성/취소 (포트폴리오와 아티스트에 함께 반영, artistId 를 모르는 기존 예약은 포트폴리오만)
+    public void recordReservation(Long portfolioId, Long artistId, int delta) {
+        AfterCommit.run(() -> {
+            add(PopularityTarget.PORTFOLIO, portfolioId, counts -> counts.reservations.add(delta));
+            if (artistId != null)
+                add(PopularityTarget.ARTIST, artistId, counts -> counts.reservations.add(delta));
+        });
+    }
+
+    public long portfolioScore(Long portfolioId) {
+        return portfolioScores.getOrDefault(portfolioId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${meme.popularity.flush-interval:PT30S}")
+    public synchronized void flush() {
+        List<PopularityDelta> deltas = new ArrayList<>();
+        for (Map.Entry<CounterKey, PendingCounts> entry : pending.entrySet()) {
+            CounterKey key = entry.getKey();
+            PendingCounts counts = entry.getValue();
+            long views = counts.views.sumThenReset();
+            long favorites = counts.favorites.sumThenReset();
+            long reservations = counts.reservations.sumThenReset();
+
+            //두 주기 연속 변화가 없던 대상은 정리
+            if (views == 0 && favorites == 0 && reservations == 0) {
+                if (counts.idle && pending.remove(key, counts))
+                    retire(key, counts);
+                counts.idle = true;
+                continue;
+            }
+            counts.idle = false;
+            long score = views * VIEW_WEIGHT + favorites * FAVORITE_WEIGHT + reservations * RESERVATION_WEIGHT;
+            deltas.add(new PopularityDelta(key.targetType(), key.targetId(), views, favorites, reservations, score));
+        }
+        if (deltas.isEmpty())
+            return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> popularityCounterRepository.applyDeltas(deltas));
+        } catch (RuntimeException e) {
+            //실패한 증감분은 다음 주기에 다시 반영
+            log.warn("popularity flush failed : {}", e.getMessage());
+            deltas.forEach(this::restore);
+            return;
+        }
+
+        deltas.stream()
+                .filter(delta -> delta.targetType() == PopularityTarget.PORTFOLIO)
+                .forEach(delta -> portfolioScores.merge(delta.targetId(), delta.score(), Long::sum));
+        if (deltas.stream().anyMatch(delta -> delta.targetType() == PopularityTarget.PORTFOLIO && delta.score() != 0))
+            portfolioResultCache.evictSort("popular");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void restore(PopularityDelta delta) {
+        add(delta.targetType(), delta.targetId(), counts -> {
+            counts.views.add(delta.viewCount());
+            counts.favorites.add(delta.favoriteCount());
+            counts.reservations.add(delta.reservationCount());
+        });
+    }
+
+    /*
+     * 정리된 항목에 더한 증감분은 새 항목으로 옮긴다.
+     * flush 는 정리 표시 후 남은 값을 비우고, 쓰기는 더한 뒤 정리 표시를 확인하므로 (sumThenReset 은 cell 마다 getAndSet)
+     * 정리와 엇갈린 증감은 둘 중 한쪽에서 정확히 한 번 옮겨진다.
+     */
+    private void add(PopularityTarget targetType, Long targetId, Consumer<PendingCounts> update) {
+        CounterKey key = new CounterKey(targetType, targetId);
+        PendingCounts counts = pending.computeIfAbsent(key, k -> new PendingCounts());
+        update.accept(counts);
+        if (counts.retired)
+            moveRemaining(key, counts);
+    }
+
+    private void retire(CounterKey key, PendingCounts counts) {
+        counts.retired = true;
+        moveRemaining(key, counts);
+    }
+
+    private void moveRemaining(CounterKey key, PendingCounts counts) {
+        long views = counts.views.sumThenReset();
+        long favorites = counts.favorites.sumThenReset();
+        long reservations = counts.reservations.sumThenReset();
+        if (views != 0 || favorites != 0 || reservations != 0)
+            restore(new PopularityDelta(key.targetType(), key.targetId(), views, favorites, reservations, 0));
+    }
+
+    private record CounterKey(PopularityTarget targetType, Long targetId) {
+    }
+
+    //LongAdder 는 경합 시 내부 cell 로 나눠 누적하므로 같은 대상에 대한 동시 증가도 서로 기다리지 않는다
+    private static final class PendingCounts {
+        private final LongAdder views = new LongAdder();
+        private final LongAdder favorites = new LongAdder();
+        private final LongAdder reservations = new LongAdder();
+        //직전 flush 에서 변화가 없었음 (flush 에서만 변경)
+        private volatile boolean idle;
+        //pending 에서 정리됨 (이후 더해진 값은 새 항목으로 옮긴다)
+        private volatile boolean retired;
+    }
+}
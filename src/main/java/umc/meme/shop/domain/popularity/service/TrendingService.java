@@ -0,0 +1,258 @@
+package umc.meme.shop.domain.popularity.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import umc.meme.shop.domain.portfolio.repository.PortfolioRepository;
+import umc.meme.shop.domain.portfolio.repository.TrendingView;
+import umc.meme.shop.domain.portfolio.service.PortfolioResultCache;
+import umc.meme.shop.global.enums.Category;
+import umc.meme.shop.global.util.AfterCommit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 포트폴리오 트렌딩 점수 (관심 등록, 예약, 리뷰에 가중치를 주고 half-life 마다 절반으로 감쇠)
+ * 감쇠된 합 Σ w·e^(-λ(now - t)) 대신 시점과 무관한 로그 값 ln Σ w·e^(λt) 를 유지한다.
+ * 모든 포트폴리오가 같은 비율로 감쇠하므로 순서는 로그 값만으로 정해지고, 이벤트마다 log-sum-exp 로 더하기만 하면 되어 전체 재계산이 없다.
+ * 점수는 더해지기만 하므로 카테고리별/전체 상위 K 개를 이벤트마다 갱신해 유지하고,
+ * 바뀐 점수는 flush 주기마다 Portfolio.trendingScore 에 반영한다 (검색 정렬, 재기동 시 적재).
+ * 관심 등록은 같은 (모델, 포트폴리오) 에 대해 favorite-window 안에 한 번만 센다 (등록/해제 반복으로 점수를 올리지 못하게).
+ */
+@Slf4j
+@Service
+public class TrendingService {
+    private static final double FAVORITE_WEIGHT = 1;
+    private static final double REVIEW_WEIGHT = 2;
+    private static final double RESERVATION_WEIGHT = 3;
+    //이벤트가 없던 포트폴리오 (이벤트 점수는 λt 이상이라 항상 이보다 크다)
+    private static final double EMPTY = 0;
+
+    private final PortfolioRepository portfolioRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PortfolioResultCache portfolioResultCache;
+    private final Clock clock;
+    //ms 당 감쇠율
+    private final double lambda;
+    private final int topSize;
+
+    //portfolioId -> 카테고리, 차단 여부, 로그 점수
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Category, TopK> byCategory = new EnumMap<>(Category.class);
+    private final TopK all = new TopK(null);
+    //flush 되지 않은 포트폴리오
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    //portfolioId -> DB 에 반영된 로그 점수 (검색 색인 정렬용)
+    private final Map<Long, Double> persistedScores = new ConcurrentHashMap<>();
+    //window 안에 관심 등록이 반영된 (모델, 포트폴리오)
+    private final Cache<FavoriteEvent, Boolean> recentFavorites;
+
+    //half-life 를 바꾸면 저장된 점수와 척도가 달라지므로 바꾼 뒤 쌓인 점수부터 순서가 맞는다
+    public TrendingService(PortfolioRepository portfolioRepository,
+                           TransactionTemplate transactionTemplate,
+                           PortfolioResultCache portfolioResultCache,
+                           Clock clock,
+                           @Value("${meme.trending.half-life:P3D}") Duration halfLife,
+                           @Value("${meme.trending.top-size:30}") int topSize,
+                           @Value("${meme.trending.favorite-window:P1D}") Duration favoriteWindow,
+                           @Value("${meme.trending.favorite-window-max-entries:100000}") long favoriteWindowMaxEntries) {
+        this.portfolioRepository = portfolioRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.portfolioResultCache = portfolioResultCache;
+        this.clock = clock;
+        this.lambda = Math.log(2) / halfLife.toMillis();
+        this.topSize = topSize;
+        this.recentFavorites = Caffeine.newBuilder()
+                .expireAfterWrite(favoriteWindow)
+                .maximumSize(favoriteWindowMaxEntries)
+                .build();
+        for (Category category : Category.values())
+            byCategory.put(category, new TopK(category));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (TrendingView view : portfolioRepository.findTrendingViews()) {
+            entries.put(view.getPortfolioId(),
+                    new Entry(view.getCategory(), Boolean.TRUE.equals(view.getIsBlock()), view.getTrendingScore()));
+            persistedScores.put(view.getPortfolioId(), view.getTrendingScore());
+        }
+        all.rebuild();
+        byCategory.values().forEach(TopK::rebuild);
+        log.info("trending scores loaded : {} portfolios", entries.size());
+    }
+
+    //관심 등록 (해제는 빼지 않고 감쇠에 맡긴다, 커밋된 등록만 window 에 남긴다)
+    public void recordFavorite(Long modelId, Long portfolioId) {
+        AfterCommit.run(() -> {
+            if (recentFavorites.asMap().putIfAbsent(new FavoriteEvent(modelId, portfolioId), Boolean.TRUE) == null)
+                apply(portfolioId, FAVORITE_WEIGHT);
+        });
+    }
+
+    public void recordReview(Long portfolioId) {
+        record(portfolioId, REVIEW_WEIGHT);
+    }
+
+    //예약 생성 (count 건)
+    public void recordReservation(Long portfolioId, int count) {
+        if (count > 0)
+            record(portfolioId, RESERVATION_WEIGHT * count);
+    }
+
+    //새 포트폴리오
+    public void register(Long portfolioId, Category category) {
+        AfterCommit.run(() -> entries.putIfAbsent(portfolioId, new Entry(category, false, EMPTY)));
+    }
+
+    //카테고리/차단 여부 변경: 빠진 상위 목록은 남은 포트폴리오로 다시 채운다
+    public void updateListing(Long portfolioId, Category category, boolean blocked) {
+        AfterCommit.run(() -> {
+            Entry previous = entries.get(portfolioId);
+            entries.compute(portfolioId, (id, entry) ->
+                    new Entry(category, blocked, entry != null ? entry.score() : EMPTY));
+            if (previous != null && topOf(previous.category()) != null)
+                topOf(previous.category()).rebuild();
+            all.rebuild();
+            offer(portfolioId, category);
+        });
+    }
+
+    //상위 포트폴리오 ID (category 가 null 이면 전체)
+    public List<Long> top(Category category) {
+        TopK top = category == null ? all : topOf(category);
+        return top != null ? top.ids() : List.of();
+    }
+
+    //DB 에 반영된 로그 점수 (커서 토큰에 담기는 값과 같은 기준)
+    public double persistedScore(Long portfolioId) {
+        return persistedScores.getOrDefault(portfolioId, EMPTY);
+    }
+
+    @Scheduled(fixedDelayString = "${meme.trending.flush-interval:PT1M}")
+    public synchronized void flush() {
+        Map<Long, Double> scores = new HashMap<>();
+        for (Iterator<Long> iterator = dirty.iterator(); iterator.hasNext(); ) {
+            Long portfolioId = iterator.next();
+            iterator.remove();
+            Entry entry = entries.get(portfolioId);
+            if (entry != null)
+                scores.put(portfolioId, entry.score());
+        }
+        if (scores.isEmpty())
+            return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> portfolioRepository.updateTrendingScores(scores));
+        } catch (RuntimeException e) {
+            //다음 주기에 다시 반영 (메모리 점수가 기준이므로 최신 값을 다시 쓴다)
+            log.warn("trending flush failed : {}", e.getMessage());
+            dirty.addAll(scores.keySet());
+            return;
+        }
+        persistedScores.putAll(scores);
+        portfolioResultCache.evictSort("trending");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void record(Long portfolioId, double weight) {
+        AfterCommit.run(() -> apply(portfolioId, weight));
+    }
+
+    private void apply(Long portfolioId, double weight) {
+        double added = Math.log(weight) + lambda * clock.millis();
+        Entry updated = entries.computeIfPresent(portfolioId, (id, entry) -> entry.plus(added));
+        if (updated == null)
+            return;
+        dirty.add(portfolioId);
+        offer(portfolioId, updated.category());
+    }
+
+    private void offer(Long portfolioId, Category category) {
+        all.offer(portfolioId);
+        TopK top = topOf(category);
+        if (top != null)
+            top.offer(portfolioId);
+    }
+
+    private TopK topOf(Category category) {
+        return category == null ? null : byCategory.get(category);
+    }
+
+    private record Entry(Category category, boolean blocked, double score) {
+        //ln(e^score + e^added)
+        Entry plus(double added) {
+            if (score <= EMPTY)
+                return new Entry(category, blocked, added);
+            double max = Math.max(score, added);
+            return new Entry(category, blocked, max + Math.log1p(Math.exp(Math.min(score, added) - max)));
+        }
+    }
+
+    private record Ranked(Long portfolioId, double score) {
+    }
+
+    private record FavoriteEvent(Long modelId, Long portfolioId) {
+    }
+
+    /*
+     * 점수 오름차순 TreeSet 으로 상위 K 개를 유지한다 (first 가 K 번째).
+     * offer 는 entries 의 현재 값을 다시 읽어 판단하므로, 이벤트와 목록 변경이 엇갈려도 다른 카테고리나 차단된 포트폴리오가 남지 않는다.
+     */
+    private final class TopK {
+        private static final Comparator<Ranked> ORDER =
+                Comparator.comparingDouble(Ranked::score).thenComparing(Ranked::portfolioId);
+
+        //null 이면 전체
+        private final Category category;
+        private final TreeSet<Ranked> ranked = new TreeSet<>(ORDER);
+        private final Map<Long, Ranked> members = new HashMap<>();
+
+        private TopK(Category category) {
+            this.category = category;
+        }
+
+        private synchronized void offer(Long portfolioId) {
+            Entry entry = entries.get(portfolioId);
+            Ranked current = members.remove(portfolioId);
+            if (current != null)
+                ranked.remove(current);
+            if (entry == null || entry.blocked() || entry.score() <= EMPTY
+                    || (category != null && entry.category() != category))
+                return;
+
+            Ranked next = new Ranked(portfolioId, entry.score());
+            if (members.size() >= topSize) {
+                if (ORDER.compare(next, ranked.first()) <= 0)
+                    return;
+                members.remove(ranked.pollFirst().portfolioId());
+            }
+            ranked.add(next);
+            members.put(portfolioId, next);
+        }
+
+        private synchronized void rebuild() {
+            ranked.clear();
+            members.clear();
+            entries.keySet().forEach(this::offer);
+        }
+
+        private synchronized List<Long> ids() {
+            return ranked.descendingSet().stream().map(Ranked::portfolioId).toList();
+        }
+    }
+}
@@ -6,7 +6,9 @@ import org.springframework.web.bind.annotation.*;
 import umc.meme.shop.domain.portfolio.dto.request.CreatePortfolioDto;
 import umc.meme.shop.domain.portfolio.dto.request.UpdatePortfolioDto;
 import umc.meme.shop.domain.portfolio.service.PortfolioService;
+import umc.meme.shop.domain.recommendation.service.PersonalRecommendationService;
 import umc.meme.shop.global.SuccessStatus;
+import umc.meme.shop.global.enums.Category;
 import umc.meme.shop.global.response.ApiResponse;
 
 @RestController
@@ -14,6 +16,7 @@ import umc.meme.shop.global.response.ApiResponse;
 @RequestMapping("/api/v1/portfolio")
 public class PortfolioController {
     private final PortfolioService portfolioService;
+    private final PersonalRecommendationService personalRecommendationService;
 
     @Operation(summary = "포트폴리오 생성", description = "포트폴리오를 생성하는 API입니다.")
     @PostMapping()
@@ -55,4 +58,28 @@ public class PortfolioController {
     public ApiResponse recommendRecent(){
         return ApiResponse.SuccessResponse(SuccessStatus.RECOMMEND_RECENT_GET, portfolioService.recommendRecent());
     }
+
+    @Operation(summary = "포트폴리오 추천 - 인기 순", description = "조회/관심/예약 기반 인기도가 높은 순으로 포트폴리오를 추천하는 API입니다.")
+    @GetMapping("/recommend/popular")
+    public ApiResponse recommendPopular(){
+        return ApiResponse.SuccessResponse(SuccessStatus.RECOMMEND_POPULAR_GET, portfolioService.recommendPopular());
+    }
+
+    @Operation(summary = "포트폴리오 추천 - 카테고리", description = "카테고리 안에서 별점이 높은 순으로 포트폴리오를 추천하는 API입니다.")
+    @GetMapping("/recommend/category")
+    public ApiResponse recommendCategory(@RequestParam(value = "category") Category category){
+        return ApiResponse.SuccessResponse(SuccessStatus.RECOMMEND_CATEGORY_GET, portfolioService.recommendCategory(category));
+    }
+
+    @Operation(summary = "포트폴리오 추천 - 트렌딩", description = "최근 관심/예약/리뷰가 몰리는 순으로 포트폴리오를 추천하는 API입니다. 카테고리를 주지 않으면 전체에서 추천합니다.")
+    @GetMapping("/recommend/trending")
+    public ApiResponse recommendTrending(@RequestParam(value = "category", required = false) Category category){
+        return ApiResponse.SuccessResponse(SuccessStatus.RECOMMEND_TRENDING_GET, portfolioService.recommendTrending(category));
+    }
+
+    @Operation(summary = "포트폴리오 추천 - 맞춤", description = "모델의 관심/예약 포트폴리오와 비슷한 포트폴리오, 같은 피부 타입·퍼스널 컬러 모델이 선호하는 포트폴리오를 추천하는 API입니다.")
+    @GetMapping("/recommend/personal/{modelId}")
+    public ApiResponse recommendPersonal(@PathVariable Long modelId){
+        return ApiResponse.SuccessResponse(SuccessStatus.RECOMMEND_PERSONAL_GET, personalRecommendationService.recommend(modelId));
+    }
 }
@@ -0,0 +1,33 @@
+package umc.meme.shop.domain.portfolio.dto;
+
+import umc.meme.shop.domain.portfolio.repository.PortfolioCounterView;
+
+/**
+ * 포트폴리오 집계 값 (Portfolio 컬럼 + 아직 합산되지 않은 샤드 증감분)
+ */
+public record PortfolioCounts(long starSum, int reviewCount, int favoriteCount, StarCounts starCounts) {
+    public static final PortfolioCounts ZERO = new PortfolioCounts(0, 0, 0);
+
+    //별점별 리뷰 수가 필요 없는 경우
+    public PortfolioCounts(long starSum, int reviewCount, int favoriteCount) {
+        this(starSum, reviewCount, favoriteCount, StarCounts.ZERO);
+    }
+
+    public static PortfolioCounts from(PortfolioCounterView view) {
+        StarCounts starCounts = new StarCounts(view.getStar1Count().intValue(), view.getStar2Count().intValue(),
+                view.getStar3Count().intValue(), view.getStar4Count().intValue(), view.getStar5Count().intValue());
+        return new PortfolioCounts(view.getStarSum(), view.getReviewCount().intValue(), view.getFavoriteCount().intValue(), starCounts);
+    }
+
+    public PortfolioCounts plus(PortfolioCounts other) {
+        return new PortfolioCounts(starSum + other.starSum, reviewCount + other.reviewCount,
+                favoriteCount + other.favoriteCount, starCounts.plus(other.starCounts));
+    }
+
+    //Portfolio.rating 과 같은 방식(소수 둘째 자리 반올림)으로 계산한 평균 별점
+    public String averageStars() {
+        if (reviewCount <= 0)
+            return String.format("%.2f", 0.0);
+        return String.format("%.2f", Math.round(starSum * 100.0 / reviewCount) / 100.0);
+    }
+}
@@ -0,0 +1,37 @@
+package umc.meme.shop.domain.portfolio.dto;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 포트폴리오 별점(1~5)별 리뷰 수
+ */
+public record StarCounts(int star1, int star2, int star3, int star4, int star5) {
+    public static final StarCounts ZERO = new StarCounts(0, 0, 0, 0, 0);
+
+    //star 점 리뷰 delta 개 (범위를 벗어난 별점은 집계하지 않음)
+    public static StarCounts of(int star, int delta) {
+        return switch (star) {
+            case 1 -> new StarCounts(delta, 0, 0, 0, 0);
+            case 2 -> new StarCounts(0, delta, 0, 0, 0);
+            case 3 -> new StarCounts(0, 0, delta, 0, 0);
+            case 4 -> new StarCounts(0, 0, 0, delta, 0);
+            case 5 -> new StarCounts(0, 0, 0, 0, delta);
+            default -> ZERO;
+        };
+    }
+
+    public StarCounts plus(StarCounts other) {
+        return new StarCounts(star1 + other.star1, star2 + other.star2, star3 + other.star3,
+                star4 + other.star4, star5 + other.star5);
+    }
+
+    public boolean isZero() {
+        return equals(ZERO);
+    }
+
+    //별점 -> 리뷰 수 (리뷰 목록 별점 현황)
+    public Map<Integer, Integer> toMap() {
+        return new HashMap<>(Map.of(5, star5, 4, star4, 3, star3, 2, star2, 1, star1));
+    }
+}
@@ -0,0 +1,46 @@
+package umc.meme.shop.domain.portfolio.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import umc.meme.shop.domain.search.dto.PortfolioCursor;
+import umc.meme.shop.global.ErrorStatus;
+import umc.meme.shop.global.exception.GlobalException;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PortfolioCursorPageDto {
+    private List<PortfolioDto> content;
+    private int pageSize; //페이지 크기
+    private boolean hasNext; //다음 페이지 존재 여부
+    private String nextCursor; //다음 페이지 요청 시 전달할 커서
+
+    //pageSize + 1 개를 조회해서 다음 페이지 존재 여부를 판단
+    public static PortfolioCursorPageDto from(List<PortfolioDto> portfolioDtoList, int pageSize, String sortBy){
+        return from(portfolioDtoList, pageSize, last -> PortfolioCursor.of(sortBy, last));
+    }
+
+    //cursorOf : 마지막 포트폴리오로 다음 커서 생성 (검색 색인은 색인 문서 값 기준)
+    public static PortfolioCursorPageDto from(List<PortfolioDto> portfolioDtoList, int pageSize,
+                                              Function<PortfolioDto, PortfolioCursor> cursorOf){
+        //검색 결과가 없을 시
+        if(portfolioDtoList.isEmpty())
+            throw new GlobalException(ErrorStatus.SEARCH_NOT_FOUNT);
+
+        boolean hasNext = portfolioDtoList.size() > pageSize;
+        List<PortfolioDto> content = hasNext ? portfolioDtoList.subList(0, pageSize) : portfolioDtoList;
+
+        return PortfolioCursorPageDto.builder()
+                .content(content)
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null)
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import umc.meme.shop.domain.artist.entity.Artist;
+import umc.meme.shop.domain.portfolio.dto.PortfolioCounts;
 import umc.meme.shop.domain.portfolio.entity.Portfolio;
 import umc.meme.shop.global.enums.Category;
 import umc.meme.shop.global.enums.MakeupLocation;
@@ -49,8 +50,10 @@ public class PortfolioDetailDto {
 
     private List<PortfolioImgDto> portfolioImgDtoList;
 
-    public static PortfolioDetailDto from(Portfolio portfolio, boolean isFavorite) {
+    public static PortfolioDetailDto from(Portfolio portfolio, boolean isFavorite, PortfolioCounts pending) {
         Artist artist = portfolio.getArtist();
+        PortfolioCounts counts = new PortfolioCounts(portfolio.getStarSum(), portfolio.getReviewCount(), portfolio.getFavoriteCount())
+                .plus(pending);
 
         // PortfolioImg 리스트를 PortfolioImgDto 리스트로 변환
         List<PortfolioImgDto> portfolioImgDtoList = portfolio.getPortfolioImgList()
@@ -73,8 +76,8 @@ public class PortfolioDetailDto {
                 .region(artist.getRegion())
                 .isBlock(portfolio.isBlock())
                 .portfolioImgDtoList(portfolioImgDtoList)
-                .averageStars(portfolio.getAverageStars())
-                .reviewCount(portfolio.getReviewList().size())
+                .averageStars(counts.averageStars())
+                .reviewCount(counts.reviewCount())
                 .build();
     }
 }
@@ -7,14 +7,16 @@ import lombok.NoArgsConstructor;
 import umc.meme.shop.domain.artist.entity.Artist;
 import umc.meme.shop.global.enums.MakeupLocation;
 import umc.meme.shop.domain.favorite.entity.FavoritePortfolio;
+import umc.meme.shop.domain.portfolio.dto.PortfolioCounts;
 import umc.meme.shop.domain.portfolio.entity.Portfolio;
+import umc.meme.shop.domain.portfolio.repository.PortfolioCardView;
 import umc.meme.shop.global.enums.Category;
 import umc.meme.shop.global.enums.Region;
 
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PortfolioDto {
@@ -39,10 +41,17 @@ public class PortfolioDto {
 
     private String averageStars;
 
+    private double rating; //평균 별점 컬럼 값 (합산 전 증감분 제외, 커서 정렬 기준)
+
     private int reviewCount; //리뷰 개수
 
+    private long popularity; //인기도 점수
+
+    private double trendingScore; //트렌딩 점수 (로그 값, 커서 정렬 기준)
+
     private List<PortfolioImgDto> portfolioImgDtoList;
 
+    private Boolean isFavorite; //관심 메이크업 여부 (modelId 를 전달한 목록 조회에서만 채움)
 
     public static PortfolioDto from(Portfolio portfolio) {
         Artist artist = portfolio.getArtist();
@@ -66,7 +75,36 @@ public class PortfolioDto {
                 .isBlock(portfolio.isBlock())
                 .portfolioImgDtoList(portfolioImgDtoList)
                 .averageStars(portfolio.getAverageStars())
-                .reviewCount(portfolio.getReviewList().size())
+                .rating(portfolio.getRating())
+                .reviewCount(portfolio.getReviewCount())
+                .popularity(portfolio.getPopularity())
+                .trendingScore(portfolio.getTrendingScore())
+                .build();
+    }
+
+    //목록 조회 (projection + 샤드 증감분 + 일괄 조회한 지역/이미지/관심 여부)
+    public static PortfolioDto from(PortfolioCardView card, PortfolioCounts pending,
+                                    List<Region> region, List<PortfolioImgDto> portfolioImgDtoList,
+                                    Boolean isFavorite) {
+        PortfolioCounts counts = new PortfolioCounts(card.getStarSum(), card.getReviewCount(), 0).plus(pending);
+        return PortfolioDto.builder()
+                .portfolioId(card.getPortfolioId())
+                .userId(card.getUserId())
+                .category(card.getCategory())
+                .artistNickName(card.getArtistNickName())
+                .makeupName(card.getMakeupName())
+                .price(card.getPrice())
+                .makeupLocation(card.getMakeupLocation())
+                .shopLocation(card.getShopLocation())
+                .region(region)
+                .isBlock(card.getIsBlock())
+                .portfolioImgDtoList(portfolioImgDtoList)
+                .averageStars(counts.averageStars())
+                .rating(card.getRating())
+                .reviewCount(counts.reviewCount())
+                .popularity(card.getPopularity())
+                .trendingScore(card.getTrendingScore())
+                .isFavorite(isFavorite)
                 .build();
     }
 
@@ -80,7 +118,7 @@ public class PortfolioDto {
                 .price(portfolio.getPrice())
                 .isBlock(portfolio.isBlock())
                 .averageStars(portfolio.getAverageStars())
-                .reviewCount(portfolio.getReviewList().size())
+                .reviewCount(portfolio.getReviewCount())
                 .build();
     }
 
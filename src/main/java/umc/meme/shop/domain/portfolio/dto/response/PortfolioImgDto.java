@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import umc.meme.shop.domain.portfolio.entity.PortfolioImg;
+import umc.meme.shop.domain.portfolio.repository.PortfolioImgView;
 
 
 @Data
@@ -27,4 +28,12 @@ public class PortfolioImgDto {
                 .isDelete(false)
                 .build();
     }
+
+    public static PortfolioImgDto from(PortfolioImgView img){
+        return PortfolioImgDto.builder()
+                .portfolioImgId(img.getPortfolioImgId())
+                .portfolioImgSrc(img.getSrc())
+                .isDelete(false)
+                .build();
+    }
 }
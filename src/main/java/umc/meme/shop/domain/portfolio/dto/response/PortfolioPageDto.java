@@ -5,7 +5,6 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
-import umc.meme.shop.domain.portfolio.entity.Portfolio;
 import umc.meme.shop.global.ErrorStatus;
 import umc.meme.shop.global.exception.GlobalException;
 
@@ -14,7 +13,7 @@ import java.util.List;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PortfolioPageDto {
     private List<PortfolioDto> content;
     private int currentPage; //현재 페이지 번호
@@ -22,15 +21,11 @@ public class PortfolioPageDto {
     private int totalNumber; //전체 메이크업 개수
     private int totalPage; //전체 페이지 개수
 
-    public static PortfolioPageDto from(Page<Portfolio> page){
+    public static PortfolioPageDto from(Page<?> page, List<PortfolioDto> content){
         //검색 결과가 없을 시
-        if(page.getContent().isEmpty())
+        if(content.isEmpty())
             throw new GlobalException(ErrorStatus.SEARCH_NOT_FOUNT);
 
-        List<PortfolioDto> content = page.stream()
-                .map(PortfolioDto::from)
-                .toList();
-
         return PortfolioPageDto.builder()
                 .content(content)
                 .pageSize(page.getSize())
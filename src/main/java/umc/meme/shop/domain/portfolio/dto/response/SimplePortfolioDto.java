@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import umc.meme.shop.domain.artist.entity.Artist;
 import umc.meme.shop.domain.favorite.entity.FavoritePortfolio;
 import umc.meme.shop.domain.portfolio.entity.Portfolio;
+import umc.meme.shop.domain.portfolio.repository.PortfolioCardView;
 import umc.meme.shop.global.enums.Category;
 import umc.meme.shop.global.enums.MakeupLocation;
 
@@ -38,6 +39,19 @@ public class SimplePortfolioDto {
                 .build();
     }
 
+    //관심 메이크업 목록 (projection + 일괄 조회한 대표 이미지)
+    public static SimplePortfolioDto from(PortfolioCardView card, String portfolioImg){
+        return SimplePortfolioDto.builder()
+                .portfolioId(card.getPortfolioId())
+                .portfolioImg(portfolioImg)
+                .category(card.getCategory())
+                .makeupName(card.getMakeupName())
+                .artistName(card.getArtistNickName())
+                .price(card.getPrice())
+                .makeupLocation(card.getMakeupLocation())
+                .build();
+    }
+
     public static SimplePortfolioDto from(Portfolio portfolio){
         Artist artist = portfolio.getArtist();
 
@@ -5,12 +5,17 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import umc.meme.shop.domain.artist.entity.Artist;
 import umc.meme.shop.domain.common.BaseEntity;
+import umc.meme.shop.domain.portfolio.dto.StarCounts;
 import umc.meme.shop.domain.portfolio.dto.request.CreatePortfolioDto;
 import umc.meme.shop.domain.portfolio.dto.request.UpdatePortfolioDto;
 import umc.meme.shop.global.enums.Category;
 import umc.meme.shop.domain.review.entity.Review;
+import umc.meme.shop.global.config.SecondLevelCacheConfig;
+import umc.meme.shop.global.util.SnowflakeId;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,13 +26,15 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PORTFOLIO)
 public class Portfolio extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "portfolio_id")
     private Long portfolioId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="user_id", nullable = false)
     private Artist artist;
 
@@ -45,10 +52,52 @@ public class Portfolio extends BaseEntity {
     private String info;
 
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "portfolio")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PORTFOLIO_IMG_LIST)
     private List<PortfolioImg> portfolioImgList;
 
-    @Column
-    private String averageStars;
+    //별점 합계/리뷰 개수 (리뷰 작성/삭제 시 PortfolioRepository 에서 원자적으로 갱신)
+    //집계 컬럼은 bulk update 로만 바꾼다: 엔티티 저장이 읽어 둔 값으로 그 사이 합산된 증감분을 덮어쓰지 않도록
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "BIGINT default 0")
+    private long starSum;
+
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "INT default 0")
+    private int reviewCount;
+
+    //평균 별점 (소수 둘째 자리 반올림, 정렬 기준)
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "DOUBLE default 0")
+    private double rating;
+
+    //별점별 리뷰 수 (리뷰 목록 별점 현황)
+    @Column(name = "star1_count", nullable = false, insertable = false, updatable = false, columnDefinition = "INT default 0")
+    private int star1Count;
+
+    @Column(name = "star2_count", nullable = false, insertable = false, updatable = false, columnDefinition = "INT default 0")
+    private int star2Count;
+
+    @Column(name = "star3_count", nullable = false, insertable = false, updatable = false, columnDefinition = "INT default 0")
+    private int star3Count;
+
+    @Column(name = "star4_count", nullable = false, insertable = false, updatable = false, columnDefinition = "INT default 0")
+    private int star4Count;
+
+    @Column(name = "star5_count", nullable = false, insertable = false, updatable = false, columnDefinition = "INT default 0")
+    private int star5Count;
+
+    //관심 등록 수 / 완료된 예약 수
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "INT default 0")
+    private int favoriteCount;
+
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "INT default 0")
+    private int reservationCount;
+
+    //인기도 점수 (PopularityCounterService 가 주기적으로 JDBC 로 반영, 정렬 기준)
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "BIGINT default 0")
+    private long popularity;
+
+    //최근 관심/예약/리뷰를 시간에 따라 감쇠시켜 합한 점수의 로그 값 (TrendingService 가 주기적으로 반영, 정렬 기준)
+    //엔티티 저장이 메모리보다 오래된 값으로 덮어쓰지 않도록 JDBC 로만 갱신한다
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "DOUBLE default 0")
+    private double trendingScore;
 
     @Column(nullable = false, columnDefinition = "TINYINT(1) default 0")
     private boolean isBlock;
@@ -77,24 +126,13 @@ public class Portfolio extends BaseEntity {
         this.isBlock = request.getIsBlock();
     }
 
-    public void updateReviewList(Review review){
-        this.reviewList.add(review);
-        //별점 업데이트
-        updateAverageStars();
+    //응답용 평균 별점 ("4.50")
+    public String getAverageStars(){
+        return String.format("%.2f", this.rating);
     }
 
-    private void updateAverageStars(){
-        int count = this.reviewList.size();
-        if(count == 0) {
-            this.averageStars = "0.00";
-            return;
-        }
-
-        double stars = 0;
-        for(Review review : reviewList){
-            stars += review.getStar();
-        }
-        this.averageStars = String.format("%.2f", stars/count);
+    public StarCounts getStarCounts(){
+        return new StarCounts(star1Count, star2Count, star3Count, star4Count, star5Count);
     }
 
     public static Portfolio from(Artist artist, CreatePortfolioDto dto){
@@ -105,7 +143,6 @@ public class Portfolio extends BaseEntity {
                 .info(dto.getInfo())
                 .price(dto.getPrice())
                 .portfolioImgList(new ArrayList<PortfolioImg>())
-                .averageStars("0.00")
                 .isBlock(false)
                 .build();
     }
@@ -0,0 +1,60 @@
+package umc.meme.shop.domain.portfolio.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import umc.meme.shop.domain.portfolio.dto.StarCounts;
+
+/**
+ * 포트폴리오 집계 증감분 샤드
+ * 리뷰/관심 등록이 몰려도 Portfolio 행 하나에 락이 몰리지 않도록 포트폴리오마다 N개의 slot 에 증감분을 나눠 쌓고,
+ * 주기적으로 Portfolio 집계 컬럼에 합산(fold)한 뒤 비운다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_portfolio_counter_shard", columnNames = {"portfolio_id", "slot"}))
+public class PortfolioCounterShard {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long shardId;
+
+    @Column(name = "portfolio_id", nullable = false)
+    private Long portfolioId;
+
+    @Column(nullable = false)
+    private int slot;
+
+    @Column(nullable = false, columnDefinition = "BIGINT default 0")
+    private long starSum;
+
+    @Column(nullable = false, columnDefinition = "INT default 0")
+    private int reviewCount;
+
+    @Column(nullable = false, columnDefinition = "INT default 0")
+    private int favoriteCount;
+
+    //별점별 리뷰 수 증감분
+    @Column(name = "star1_count", nullable = false, columnDefinition = "INT default 0")
+    private int star1Count;
+
+    @Column(name = "star2_count", nullable = false, columnDefinition = "INT default 0")
+    private int star2Count;
+
+    @Column(name = "star3_count", nullable = false, columnDefinition = "INT default 0")
+    private int star3Count;
+
+    @Column(name = "star4_count", nullable = false, columnDefinition = "INT default 0")
+    private int star4Count;
+
+    @Column(name = "star5_count", nullable = false, columnDefinition = "INT default 0")
+    private int star5Count;
+
+    public StarCounts getStarCounts() {
+        return new StarCounts(star1Count, star2Count, star3Count, star4Count, star5Count);
+    }
+}
@@ -5,15 +5,21 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import umc.meme.shop.domain.common.BaseEntity;
+import umc.meme.shop.global.config.SecondLevelCacheConfig;
+import umc.meme.shop.global.util.SnowflakeId;
 
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PORTFOLIO_IMG)
 @Getter @Setter
 public class PortfolioImg extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long portfolioImgId;
 
     @ManyToOne
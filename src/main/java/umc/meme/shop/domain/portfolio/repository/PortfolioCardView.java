@@ -0,0 +1,22 @@
+package umc.meme.shop.domain.portfolio.repository;
+
+import umc.meme.shop.global.enums.Category;
+import umc.meme.shop.global.enums.MakeupLocation;
+
+//포트폴리오 목록 카드 조회용 projection (portfolio + artist 한 번에 조회)
+public interface PortfolioCardView {
+    Long getPortfolioId();
+    Category getCategory();
+    Long getUserId();
+    String getArtistNickName();
+    String getMakeupName();
+    int getPrice();
+    MakeupLocation getMakeupLocation();
+    String getShopLocation();
+    Boolean getIsBlock();
+    double getRating();
+    long getStarSum();
+    int getReviewCount();
+    long getPopularity();
+    double getTrendingScore();
+}
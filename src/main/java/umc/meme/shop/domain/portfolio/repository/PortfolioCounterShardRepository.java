@@ -0,0 +1,55 @@
+package umc.meme.shop.domain.portfolio.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import umc.meme.shop.domain.portfolio.entity.PortfolioCounterShard;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PortfolioCounterShardRepository extends JpaRepository<PortfolioCounterShard, Long> {
+    //slot 행이 없으면 생성, 있으면 증감분 누적 (star 점 칸에 reviewCount 만큼 더함)
+    //영향받는 테이블을 지정해 다른 2차 캐시 region 은 무효화하지 않음
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "portfolio_counter_shard"))
+    @Query(value = "INSERT INTO portfolio_counter_shard (portfolio_id, slot, star_sum, review_count, favorite_count, " +
+            "star1_count, star2_count, star3_count, star4_count, star5_count) " +
+            "VALUES (:portfolioId, :slot, :starSum, :reviewCount, :favoriteCount, " +
+            "IF(:star = 1, :reviewCount, 0), IF(:star = 2, :reviewCount, 0), IF(:star = 3, :reviewCount, 0), " +
+            "IF(:star = 4, :reviewCount, 0), IF(:star = 5, :reviewCount, 0)) " +
+            "ON DUPLICATE KEY UPDATE star_sum = star_sum + VALUES(star_sum), " +
+            "review_count = review_count + VALUES(review_count), " +
+            "favorite_count = favorite_count + VALUES(favorite_count), " +
+            "star1_count = star1_count + VALUES(star1_count), " +
+            "star2_count = star2_count + VALUES(star2_count), " +
+            "star3_count = star3_count + VALUES(star3_count), " +
+            "star4_count = star4_count + VALUES(star4_count), " +
+            "star5_count = star5_count + VALUES(star5_count)", nativeQuery = true)
+    int increment(@Param("portfolioId") Long portfolioId, @Param("slot") int slot, @Param("star") int star,
+                  @Param("starSum") long starSum, @Param("reviewCount") int reviewCount,
+                  @Param("favoriteCount") int favoriteCount);
+
+    //아직 Portfolio 에 합산되지 않은 증감분 합계
+    @Query("SELECT s.portfolioId AS portfolioId, SUM(s.starSum) AS starSum, " +
+            "SUM(s.reviewCount) AS reviewCount, SUM(s.favoriteCount) AS favoriteCount, " +
+            "SUM(s.star1Count) AS star1Count, SUM(s.star2Count) AS star2Count, SUM(s.star3Count) AS star3Count, " +
+            "SUM(s.star4Count) AS star4Count, SUM(s.star5Count) AS star5Count " +
+            "FROM PortfolioCounterShard s WHERE s.portfolioId IN :portfolioIds GROUP BY s.portfolioId")
+    List<PortfolioCounterView> sumByPortfolioIdIn(@Param("portfolioIds") Collection<Long> portfolioIds);
+
+    @Query("SELECT DISTINCT s.portfolioId FROM PortfolioCounterShard s ORDER BY s.portfolioId")
+    List<Long> findPendingPortfolioIds(Pageable pageable);
+
+    //fold 중 같은 slot 에 대한 증감은 커밋까지 대기
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PortfolioCounterShard s WHERE s.portfolioId IN :portfolioIds ORDER BY s.shardId")
+    List<PortfolioCounterShard> findForUpdateByPortfolioIdIn(@Param("portfolioIds") Collection<Long> portfolioIds);
+}
@@ -0,0 +1,14 @@
+package umc.meme.shop.domain.portfolio.repository;
+
+//포트폴리오별 샤드 증감분 합계 projection
+public interface PortfolioCounterView {
+    Long getPortfolioId();
+    Long getStarSum();
+    Long getReviewCount();
+    Long getFavoriteCount();
+    Long getStar1Count();
+    Long getStar2Count();
+    Long getStar3Count();
+    Long getStar4Count();
+    Long getStar5Count();
+}
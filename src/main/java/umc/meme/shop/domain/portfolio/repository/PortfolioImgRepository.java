@@ -1,7 +1,16 @@
 package umc.meme.shop.domain.portfolio.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import umc.meme.shop.domain.portfolio.entity.PortfolioImg;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface PortfolioImgRepository extends JpaRepository<PortfolioImg, Long> {
+    @Query("SELECT i.portfolio.portfolioId AS portfolioId, i.portfolioImgId AS portfolioImgId, i.src AS src " +
+            "FROM PortfolioImg i WHERE i.portfolio.portfolioId IN :portfolioIds " +
+            "ORDER BY i.portfolioImgId")
+    List<PortfolioImgView> findViewsByPortfolioIdIn(@Param("portfolioIds") Collection<Long> portfolioIds);
 }
@@ -0,0 +1,8 @@
+package umc.meme.shop.domain.portfolio.repository;
+
+//포트폴리오 이미지 일괄 조회용 projection
+public interface PortfolioImgView {
+    Long getPortfolioId();
+    Long getPortfolioImgId();
+    String getSrc();
+}
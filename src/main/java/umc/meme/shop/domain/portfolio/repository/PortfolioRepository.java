@@ -3,13 +3,17 @@ package umc.meme.shop.domain.portfolio.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import umc.meme.shop.domain.artist.entity.Artist;
 import umc.meme.shop.domain.portfolio.entity.Portfolio;
 import umc.meme.shop.global.enums.Category;
 
-public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
+import java.util.Collection;
+import java.util.List;
+
+public interface PortfolioRepository extends JpaRepository<Portfolio, Long>, PortfolioRepositoryCustom {
     @Query("SELECT p FROM Portfolio p " +
             "WHERE p.artist = :artist " +
             "AND p.isBlock = false")
@@ -28,6 +32,121 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
     @Query("SELECT p FROM Portfolio p WHERE p.isBlock = false")
     Page<Portfolio> findAllNotBlocked(Pageable pageable);
 
+    //추천 목록 스냅샷용 상위 N 개 ID (정렬은 pageable)
+    @Query("SELECT p.portfolioId FROM Portfolio p WHERE p.isBlock = false")
+    List<Long> findNotBlockedIds(Pageable pageable);
+
+    @Query("SELECT p.portfolioId FROM Portfolio p WHERE p.category = :category AND p.isBlock = false")
+    List<Long> findNotBlockedIdsByCategory(@Param("category") Category category, Pageable pageable);
+
+    //트렌딩 점수 적재
+    @Query("SELECT p.portfolioId AS portfolioId, p.category AS category, p.isBlock AS isBlock, " +
+            "p.trendingScore AS trendingScore FROM Portfolio p")
+    List<TrendingView> findTrendingViews();
+
+    //평균 별점 (검색 색인 갱신용)
+    @Query("SELECT p.portfolioId AS portfolioId, p.rating AS rating FROM Portfolio p WHERE p.portfolioId IN :portfolioIds")
+    List<RatingView> findRatingsByPortfolioIdIn(@Param("portfolioIds") Collection<Long> portfolioIds);
+
+    @Query("SELECT p.portfolioId AS portfolioId, p.rating AS rating FROM Portfolio p WHERE p.isBlock = false")
+    List<RatingView> findNotBlockedRatings();
+
+    @Query("SELECT p FROM Portfolio p JOIN FETCH p.artist WHERE p.isBlock = false")
+    List<Portfolio> findAllNotBlockedWithArtist();
+
+    @Query("SELECT p.portfolioId AS portfolioId, p.category AS category, a.userId AS userId, " +
+            "a.nickname AS artistNickName, p.makeupName AS makeupName, p.price AS price, " +
+            "a.makeupLocation AS makeupLocation, a.shopLocation AS shopLocation, p.isBlock AS isBlock, " +
+            "p.rating AS rating, p.starSum AS starSum, p.reviewCount AS reviewCount, " +
+            "p.popularity AS popularity, p.trendingScore AS trendingScore " +
+            "FROM Portfolio p JOIN p.artist a " +
+            "WHERE p.portfolioId IN :portfolioIds")
+    List<PortfolioCardView> findCardsByPortfolioIdIn(@Param("portfolioIds") Collection<Long> portfolioIds);
+
     boolean existsByMakeupName(String makeupName);
 
+    //샤드 증감분 합산 (rating 은 갱신 전 값 기준으로 먼저 계산)
+    @Modifying
+    @Query("UPDATE Portfolio p " +
+            "SET p.rating = CASE WHEN p.reviewCount + :reviewCount <= 0 THEN 0.0 " +
+            "ELSE ROUND((p.starSum + :starSum) * 1.0 / (p.reviewCount + :reviewCount), 2) END, " +
+            "p.starSum = p.starSum + :starSum, " +
+            "p.reviewCount = p.reviewCount + :reviewCount, " +
+            "p.favoriteCount = p.favoriteCount + :favoriteCount " +
+            "WHERE p.portfolioId = :portfolioId")
+    int applyCounterDelta(@Param("portfolioId") Long portfolioId, @Param("starSum") long starSum,
+                          @Param("reviewCount") int reviewCount, @Param("favoriteCount") int favoriteCount);
+
+    //샤드 별점별 리뷰 수 증감분 합산
+    @Modifying
+    @Query("UPDATE Portfolio p SET p.star1Count = p.star1Count + :star1, p.star2Count = p.star2Count + :star2, " +
+            "p.star3Count = p.star3Count + :star3, p.star4Count = p.star4Count + :star4, " +
+            "p.star5Count = p.star5Count + :star5 WHERE p.portfolioId = :portfolioId")
+    int applyStarCountDelta(@Param("portfolioId") Long portfolioId, @Param("star1") int star1, @Param("star2") int star2,
+                            @Param("star3") int star3, @Param("star4") int star4, @Param("star5") int star5);
+
+    //예약 완료/완료 취소 시 완료 예약 수 반영
+    @Modifying
+    @Query("UPDATE Portfolio p SET p.reservationCount = p.reservationCount + :delta WHERE p.portfolioId = :portfolioId")
+    int updateReservationCount(@Param("portfolioId") Long portfolioId, @Param("delta") int delta);
+
+    //리뷰/관심/예약 테이블 기준 집계 컬럼 재계산 (아직 합산되지 않은 샤드 증감분은 제외)
+    @Modifying
+    @Query(RECALCULATE_COUNTERS)
+    int recalculateCounters();
+
+    @Modifying
+    @Query(RECALCULATE_COUNTERS + " WHERE p.portfolioId IN :portfolioIds")
+    int recalculateCounters(@Param("portfolioIds") Collection<Long> portfolioIds);
+
+    //리뷰 테이블 기준 별점별 리뷰 수 재계산 (아직 합산되지 않은 샤드 증감분은 제외)
+    @Modifying
+    @Query(RECALCULATE_STAR_COUNTS)
+    int recalculateStarCounts();
+
+    @Modifying
+    @Query(RECALCULATE_STAR_COUNTS + " WHERE p.portfolioId IN :portfolioIds")
+    int recalculateStarCounts(@Param("portfolioIds") Collection<Long> portfolioIds);
+
+    @Modifying
+    @Query(RECALCULATE_RATING)
+    int recalculateRating();
+
+    @Modifying
+    @Query(RECALCULATE_RATING + " WHERE p.portfolioId IN :portfolioIds")
+    int recalculateRating(@Param("portfolioIds") Collection<Long> portfolioIds);
+
+    //집계 컬럼이 채워지지 않은 포트폴리오 (집계가 0 인데 리뷰/관심/완료 예약이 있음, 컬럼 추가 전부터 있던 행)
+    @Query("SELECT p.portfolioId FROM Portfolio p WHERE " +
+            "(p.reviewCount = 0 AND EXISTS (SELECT r FROM Review r WHERE r.portfolio = p)) " +
+            "OR (p.favoriteCount = 0 AND EXISTS (SELECT f FROM FavoritePortfolio f WHERE f.portfolio = p)) " +
+            "OR (p.reservationCount = 0 AND EXISTS (SELECT rv FROM Reservation rv " +
+            "WHERE rv.portfolio = p AND rv.status = umc.meme.shop.global.enums.Status.COMPLETE))")
+    List<Long> findUncountedPortfolioIds();
+
+    String RECALCULATE_COUNTERS = "UPDATE Portfolio p " +
+            "SET p.starSum = (SELECT COALESCE(SUM(r.star), 0) FROM Review r WHERE r.portfolio = p) " +
+            "- (SELECT COALESCE(SUM(s.starSum), 0) FROM PortfolioCounterShard s WHERE s.portfolioId = p.portfolioId), " +
+            "p.reviewCount = (SELECT COUNT(r) FROM Review r WHERE r.portfolio = p) " +
+            "- (SELECT COALESCE(SUM(s.reviewCount), 0) FROM PortfolioCounterShard s WHERE s.portfolioId = p.portfolioId), " +
+            "p.favoriteCount = (SELECT COUNT(f) FROM FavoritePortfolio f WHERE f.portfolio = p) " +
+            "- (SELECT COALESCE(SUM(s.favoriteCount), 0) FROM PortfolioCounterShard s WHERE s.portfolioId = p.portfolioId), " +
+            "p.reservationCount = (SELECT COUNT(rv) FROM Reservation rv " +
+            "WHERE rv.portfolio = p AND rv.status = umc.meme.shop.global.enums.Status.COMPLETE)";
+
+    String RECALCULATE_STAR_COUNTS = "UPDATE Portfolio p SET " +
+            "p.star1Count = (SELECT COUNT(r) FROM Review r WHERE r.portfolio = p AND r.star = 1) " +
+            "- (SELECT COALESCE(SUM(s.star1Count), 0) FROM PortfolioCounterShard s WHERE s.portfolioId = p.portfolioId), " +
+            "p.star2Count = (SELECT COUNT(r) FROM Review r WHERE r.portfolio = p AND r.star = 2) " +
+            "- (SELECT COALESCE(SUM(s.star2Count), 0) FROM PortfolioCounterShard s WHERE s.portfolioId = p.portfolioId), " +
+            "p.star3Count = (SELECT COUNT(r) FROM Review r WHERE r.portfolio = p AND r.star = 3) " +
+            "- (SELECT COALESCE(SUM(s.star3Count), 0) FROM PortfolioCounterShard s WHERE s.portfolioId = p.portfolioId), " +
+            "p.star4Count = (SELECT COUNT(r) FROM Review r WHERE r.portfolio = p AND r.star = 4) " +
+            "- (SELECT COALESCE(SUM(s.star4Count), 0) FROM PortfolioCounterShard s WHERE s.portfolioId = p.portfolioId), " +
+            "p.star5Count = (SELECT COUNT(r) FROM Review r WHERE r.portfolio = p AND r.star = 5) " +
+            "- (SELECT COALESCE(SUM(s.star5Count), 0) FROM PortfolioCounterShard s WHERE s.portfolioId = p.portfolioId)";
+
+    String RECALCULATE_RATING = "UPDATE Portfolio p " +
+            "SET p.rating = CASE WHEN p.reviewCount = 0 THEN 0.0 " +
+            "ELSE ROUND(p.starSum * 1.0 / p.reviewCount, 2) END";
 }
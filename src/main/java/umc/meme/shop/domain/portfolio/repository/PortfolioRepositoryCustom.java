@@ -0,0 +1,18 @@
+package umc.meme.shop.domain.portfolio.repository;
+
+import umc.meme.shop.domain.artist.entity.Artist;
+import umc.meme.shop.domain.portfolio.entity.Portfolio;
+import umc.meme.shop.domain.search.dto.PortfolioCursor;
+import umc.meme.shop.global.enums.Category;
+
+import java.util.List;
+import java.util.Map;
+
+public interface PortfolioRepositoryCustom {
+    //커서 이후의 포트폴리오를 limit 개 조회 (OFFSET, COUNT 없음)
+    List<Portfolio> findPageAfter(String query, Category category, Artist artist,
+                                  String sortBy, PortfolioCursor cursor, int limit);
+
+    //트렌딩 점수 반영 (portfolioId -> 로그 점수, JDBC batch)
+    void updateTrendingScores(Map<Long, Double> scores);
+}
@@ -0,0 +1,112 @@
+package umc.meme.shop.domain.portfolio.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import umc.meme.shop.domain.artist.entity.Artist;
+import umc.meme.shop.domain.portfolio.entity.Portfolio;
+import umc.meme.shop.domain.search.dto.PortfolioCursor;
+import umc.meme.shop.global.ErrorStatus;
+import umc.meme.shop.global.config.EntityCacheEvictor;
+import umc.meme.shop.global.enums.Category;
+import umc.meme.shop.global.exception.GlobalException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class PortfolioRepositoryImpl implements PortfolioRepositoryCustom {
+    //(rating, portfolioId) 내림차순 seek 조건
+    private static final String STARS_SEEK =
+            "(p.rating < :stars OR (p.rating = :stars AND p.portfolioId < :portfolioId))";
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final String UPDATE_TRENDING_SCORE =
+            "UPDATE portfolio SET trending_score = ? WHERE portfolio_id = ?";
+
+    private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheEvictor entityCacheEvictor;
+
+    @Override
+    public List<Portfolio> findPageAfter(String query, Category category, Artist artist,
+                                         String sortBy, PortfolioCursor cursor, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT p FROM Portfolio p WHERE p.isBlock = false");
+        Map<String, Object> params = new HashMap<>();
+
+        if (query != null) {
+            jpql.append(" AND (p.makeupName LIKE :query OR p.info LIKE :query)");
+            params.put("query", "%" + query + "%");
+        }
+        if (category != null) {
+            jpql.append(" AND p.category = :category");
+            params.put("category", category);
+        }
+        if (artist != null) {
+            jpql.append(" AND p.artist = :artist");
+            params.put("artist", artist);
+        }
+        if (cursor != null) {
+            jpql.append(" AND ").append(seekPredicate(sortBy));
+            params.putAll(seekParams(sortBy, cursor));
+        }
+        jpql.append(" ORDER BY ").append(orderBy(sortBy));
+
+        TypedQuery<Portfolio> typedQuery = em.createQuery(jpql.toString(), Portfolio.class);
+        params.forEach(typedQuery::setParameter);
+        return typedQuery.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public void updateTrendingScores(Map<Long, Double> scores) {
+        List<Map.Entry<Long, Double>> entries = new ArrayList<>(scores.entrySet());
+        jdbcTemplate.batchUpdate(UPDATE_TRENDING_SCORE, entries, BATCH_SIZE, (ps, entry) -> {
+            ps.setDouble(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+        entityCacheEvictor.evictAfterCommit(Portfolio.class, scores.keySet());
+    }
+
+    //정렬 튜플 (sortKey, averageStars, portfolioId) 기준으로 커서보다 뒤에 있는 행
+    private String seekPredicate(String sortBy) {
+        return switch (sortBy) {
+            case "desc" -> "(p.price < :price OR (p.price = :price AND " + STARS_SEEK + "))";
+            case "asc" -> "(p.price > :price OR (p.price = :price AND " + STARS_SEEK + "))";
+            case "review" -> STARS_SEEK;
+            case "recent" -> "p.portfolioId < :portfolioId";
+            case "popular" -> "(p.popularity < :popularity OR (p.popularity = :popularity AND " + STARS_SEEK + "))";
+            case "trending" -> "(p.trendingScore < :trending OR (p.trendingScore = :trending AND " + STARS_SEEK + "))";
+            default -> throw new GlobalException(ErrorStatus.INVALID_SORT_CRITERIA);
+        };
+    }
+
+    private Map<String, Object> seekParams(String sortBy, PortfolioCursor cursor) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("portfolioId", cursor.getPortfolioId());
+        if (!sortBy.equals("recent"))
+            params.put("stars", cursor.getRating());
+        if (sortBy.equals("desc") || sortBy.equals("asc"))
+            params.put("price", cursor.getPrice());
+        if (sortBy.equals("popular"))
+            params.put("popularity", cursor.getPopularity());
+        if (sortBy.equals("trending"))
+            params.put("trending", cursor.getTrendingScore());
+        return params;
+    }
+
+    private String orderBy(String sortBy) {
+        return switch (sortBy) {
+            case "desc" -> "p.price DESC, p.rating DESC, p.portfolioId DESC";
+            case "asc" -> "p.price ASC, p.rating DESC, p.portfolioId DESC";
+            case "review" -> "p.rating DESC, p.portfolioId DESC";
+            case "recent" -> "p.portfolioId DESC";
+            case "popular" -> "p.popularity DESC, p.rating DESC, p.portfolioId DESC";
+            case "trending" -> "p.trendingScore DESC, p.rating DESC, p.portfolioId DESC";
+            default -> throw new GlobalException(ErrorStatus.INVALID_SORT_CRITERIA);
+        };
+    }
+}
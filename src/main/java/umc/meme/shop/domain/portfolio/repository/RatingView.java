@@ -0,0 +1,7 @@
+package umc.meme.shop.domain.portfolio.repository;
+
+//포트폴리오별 평균 별점 projection
+public interface RatingView {
+    Long getPortfolioId();
+    double getRating();
+}
@@ -0,0 +1,11 @@
+package umc.meme.shop.domain.portfolio.repository;
+
+import umc.meme.shop.global.enums.Category;
+
+//포트폴리오별 트렌딩 점수 projection
+public interface TrendingView {
+    Long getPortfolioId();
+    Category getCategory();
+    Boolean getIsBlock();
+    double getTrendingScore();
+}
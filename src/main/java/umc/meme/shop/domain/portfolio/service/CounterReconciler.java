@@ -0,0 +1,95 @@
+package umc.meme.shop.domain.portfolio.service;
+
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import umc.meme.shop.domain.artist.repository.ArtistRepository;
+import umc.meme.shop.domain.portfolio.repository.PortfolioRepository;
+import umc.meme.shop.domain.reservation.repository.ReservationRepository;
+import umc.meme.shop.domain.search.index.PortfolioSearchIndex;
+
+import java.util.List;
+
+/**
+ * 집계/비정규화 컬럼(별점, 리뷰/관심/완료 예약 수, 예약의 artistId) 보정
+ * 증감 갱신은 서비스에서 바로 반영하고, 매일 새벽 원본 테이블 기준으로 재계산해 누적된 오차를 바로잡는다.
+ * 전체 테이블 상관 서브쿼리 갱신이고 포트폴리오 L2 캐시 region 도 비우므로 기동 시 전체 재계산은 설정으로 켤 때만 하고,
+ * 기동 시에는 컬럼 추가 전부터 있던 채워지지 않은 행(집계 0 인데 원본 행이 있음, artistId 가 null 인 예약)만 채운다.
+ */
+@Slf4j
+@Component
+public class CounterReconciler {
+    private static final int BACKFILL_CHUNK = 1000;
+
+    private final PortfolioRepository portfolioRepository;
+    private final ArtistRepository artistRepository;
+    private final ReservationRepository reservationRepository;
+    private final PortfolioSearchIndex portfolioSearchIndex;
+    private final boolean reconcileOnStartup;
+
+    public CounterReconciler(PortfolioRepository portfolioRepository,
+                             ArtistRepository artistRepository,
+                             ReservationRepository reservationRepository,
+                             PortfolioSearchIndex portfolioSearchIndex,
+                             @Value("${meme.counter.reconcile-on-startup:false}") boolean reconcileOnStartup) {
+        this.portfolioRepository = portfolioRepository;
+        this.artistRepository = artistRepository;
+        this.reservationRepository = reservationRepository;
+        this.portfolioSearchIndex = portfolioSearchIndex;
+        this.reconcileOnStartup = reconcileOnStartup;
+    }
+
+    //검색 색인 적재(rating 사용)보다 먼저 실행
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup)
+            reconcile();
+        else
+            backfill();
+    }
+
+    //채워지지 않은 행만 재계산 (대상이 없으면 조회 두 번과 artistId IS NULL 갱신 한 번)
+    private void backfill() {
+        List<Long> portfolioIds = portfolioRepository.findUncountedPortfolioIds();
+        for (int from = 0; from < portfolioIds.size(); from += BACKFILL_CHUNK) {
+            List<Long> chunk = portfolioIds.subList(from, Math.min(from + BACKFILL_CHUNK, portfolioIds.size()));
+            portfolioRepository.recalculateCounters(chunk);
+            portfolioRepository.recalculateStarCounts(chunk);
+            portfolioRepository.recalculateRating(chunk);
+        }
+        //보통은 색인 적재 전이라 적재 시 채운 값을 읽는다
+        if (!portfolioIds.isEmpty() && portfolioSearchIndex.isReady())
+            portfolioSearchIndex.refreshRatingsAfterCommit(portfolioIds);
+
+        List<Long> artistIds = artistRepository.findUncountedArtistIds();
+        for (int from = 0; from < artistIds.size(); from += BACKFILL_CHUNK)
+            artistRepository.recalculateCounters(artistIds.subList(from, Math.min(from + BACKFILL_CHUNK, artistIds.size())));
+
+        //아티스트 예약 내역(findArtistHistory)은 artistId 로 찾으므로 기존 예약도 기동 시 채운다
+        int reservations = reservationRepository.fillArtistId();
+        if (!portfolioIds.isEmpty() || !artistIds.isEmpty() || reservations > 0)
+            log.info("counters backfilled : {} portfolios, {} artists, {} reservations",
+                    portfolioIds.size(), artistIds.size(), reservations);
+    }
+
+    @Scheduled(cron = "${meme.counter.reconcile-cron:0 0 4 * * *}")
+    @Transactional
+    public void reconcile() {
+        //아티스트 집계는 포트폴리오 집계 합계를 사용하므로 포트폴리오 먼저
+        int portfolios = portfolioRepository.recalculateCounters();
+        portfolioRepository.recalculateStarCounts();
+        portfolioRepository.recalculateRating();
+        portfolioSearchIndex.refreshAllRatingsAfterCommit();
+        int artists = artistRepository.recalculateCounters();
+        reservationRepository.fillArtistId();
+        log.info("counters reconciled : {} portfolios, {} artists", portfolios, artists);
+    }
+}
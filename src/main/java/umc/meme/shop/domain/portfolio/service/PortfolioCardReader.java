@@ -0,0 +1,118 @@
+package umc.meme.shop.domain.portfolio.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import umc.meme.shop.domain.artist.repository.ArtistRegionView;
+import umc.meme.shop.domain.artist.repository.ArtistRepository;
+import umc.meme.shop.domain.favorite.service.FavoriteCache;
+import umc.meme.shop.domain.portfolio.dto.PortfolioCounts;
+import umc.meme.shop.domain.portfolio.dto.response.PortfolioDto;
+import umc.meme.shop.domain.portfolio.dto.response.PortfolioPageDto;
+import umc.meme.shop.domain.portfolio.dto.response.PortfolioImgDto;
+import umc.meme.shop.domain.portfolio.dto.response.SimplePortfolioDto;
+import umc.meme.shop.domain.portfolio.repository.PortfolioCardView;
+import umc.meme.shop.domain.portfolio.repository.PortfolioImgRepository;
+import umc.meme.shop.domain.portfolio.repository.PortfolioImgView;
+import umc.meme.shop.domain.portfolio.repository.PortfolioRepository;
+import umc.meme.shop.global.enums.Region;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 포트폴리오 목록(PortfolioDto) 조회 전용 read path
+ * 페이지 크기와 관계없이 카드(portfolio + artist), 이미지, 활동 지역 3번의 쿼리(+ 캐시되지 않은 샤드 합계)로 한 페이지를 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PortfolioCardReader {
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioImgRepository portfolioImgRepository;
+    private final ArtistRepository artistRepository;
+    private final PortfolioCounterService portfolioCounterService;
+    private final FavoriteCache favoriteCache;
+
+    //portfolioIdList 순서를 유지한 PortfolioDto 리스트 반환
+    public List<PortfolioDto> read(List<Long> portfolioIdList) {
+        return read(portfolioIdList, null);
+    }
+
+    //modelId 가 있으면 관심 여부도 함께 채운다 (FavoriteCache 조회, 추가 쿼리 없음)
+    public List<PortfolioDto> read(List<Long> portfolioIdList, Long modelId) {
+        if (portfolioIdList.isEmpty())
+            return List.of();
+
+        Map<Long, PortfolioCardView> cardMap = portfolioRepository.findCardsByPortfolioIdIn(portfolioIdList).stream()
+                .collect(Collectors.toMap(PortfolioCardView::getPortfolioId, Function.identity()));
+
+        Map<Long, List<PortfolioImgDto>> imgMap = portfolioImgRepository.findViewsByPortfolioIdIn(portfolioIdList).stream()
+                .collect(Collectors.groupingBy(PortfolioImgView::getPortfolioId,
+                        Collectors.mapping(PortfolioImgDto::from, Collectors.toList())));
+
+        Set<Long> artistIds = cardMap.values().stream()
+                .map(PortfolioCardView::getUserId)
+                .collect(Collectors.toSet());
+        Map<Long, List<Region>> regionMap = artistRepository.findRegionsByArtistIdIn(artistIds).stream()
+                .collect(Collectors.groupingBy(ArtistRegionView::getArtistId,
+                        Collectors.mapping(ArtistRegionView::getRegion, Collectors.toList())));
+
+        Map<Long, PortfolioCounts> pendingMap = portfolioCounterService.pending(portfolioIdList);
+        Set<Long> favoriteIds = favoriteCache.favoritePortfolioIds(modelId, portfolioIdList);
+
+        return portfolioIdList.stream()
+                .map(cardMap::get)
+                .filter(Objects::nonNull)
+                .map(card -> PortfolioDto.from(card,
+                        pendingMap.getOrDefault(card.getPortfolioId(), PortfolioCounts.ZERO),
+                        regionMap.getOrDefault(card.getUserId(), List.of()),
+                        imgMap.getOrDefault(card.getPortfolioId(), List.of()),
+                        modelId == null ? null : favoriteIds.contains(card.getPortfolioId())))
+                .toList();
+    }
+
+    //portfolioIdList 순서를 유지한 SimplePortfolioDto 리스트 반환 (카드 + 대표 이미지 2번의 쿼리)
+    public List<SimplePortfolioDto> readSimple(List<Long> portfolioIdList) {
+        return readSimple(portfolioIdList, card -> true, portfolioIdList.size());
+    }
+
+    //미리 계산해 둔 후보처럼 그 사이 차단됐을 수 있는 목록: 차단된 포트폴리오를 빼고 앞에서 limit 개
+    public List<SimplePortfolioDto> readSimpleNotBlocked(List<Long> portfolioIdList, int limit) {
+        return readSimple(portfolioIdList, card -> !Boolean.TRUE.equals(card.getIsBlock()), limit);
+    }
+
+    private List<SimplePortfolioDto> readSimple(List<Long> portfolioIdList, Predicate<PortfolioCardView> filter, int limit) {
+        if (portfolioIdList.isEmpty())
+            return List.of();
+
+        Map<Long, PortfolioCardView> cardMap = portfolioRepository.findCardsByPortfolioIdIn(portfolioIdList).stream()
+                .collect(Collectors.toMap(PortfolioCardView::getPortfolioId, Function.identity()));
+        //이미지 ID 순 정렬이므로 포트폴리오별 첫 이미지가 대표 이미지
+        Map<Long, String> imgMap = portfolioImgRepository.findViewsByPortfolioIdIn(portfolioIdList).stream()
+                .collect(Collectors.toMap(PortfolioImgView::getPortfolioId, PortfolioImgView::getSrc, (first, next) -> first));
+
+        return portfolioIdList.stream()
+                .map(cardMap::get)
+                .filter(Objects::nonNull)
+                .filter(filter)
+                .limit(limit)
+                .map(card -> SimplePortfolioDto.from(card, imgMap.get(card.getPortfolioId())))
+                .toList();
+    }
+
+    //관심 여부 없이 만들어 둔(결과 캐시) 목록에 모델의 관심 여부를 채운 복사본
+    public PortfolioPageDto withFavorites(PortfolioPageDto page, Long modelId) {
+        if (modelId == null)
+            return page;
+
+        List<Long> portfolioIdList = page.getContent().stream()
+                .map(PortfolioDto::getPortfolioId)
+                .toList();
+        Set<Long> favoriteIds = favoriteCache.favoritePortfolioIds(modelId, portfolioIdList);
+        List<PortfolioDto> content = page.getContent().stream()
+                .map(dto -> dto.toBuilder().isFavorite(favoriteIds.contains(dto.getPortfolioId())).build())
+                .toList();
+        return page.toBuilder().content(content).build();
+    }
+}
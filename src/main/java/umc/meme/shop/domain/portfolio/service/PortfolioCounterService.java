@@ -0,0 +1,207 @@
+package umc.meme.shop.domain.portfolio.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import umc.meme.shop.domain.artist.repository.ArtistRepository;
+import umc.meme.shop.domain.portfolio.dto.PortfolioCounts;
+import umc.meme.shop.domain.portfolio.dto.StarCounts;
+import umc.meme.shop.domain.portfolio.entity.PortfolioCounterShard;
+import umc.meme.shop.domain.portfolio.repository.PortfolioCounterShardRepository;
+import umc.meme.shop.domain.portfolio.repository.PortfolioCounterView;
+import umc.meme.shop.domain.portfolio.repository.PortfolioRepository;
+import umc.meme.shop.domain.search.index.PortfolioSearchIndex;
+import umc.meme.shop.global.util.AfterCommit;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 포트폴리오 리뷰/관심 집계 샤드 카운터
+ * 쓰기는 임의의 slot 에 증감분만 upsert 해서 같은 포트폴리오에 대한 동시 쓰기가 서로 다른 행 락을 잡도록 하고,
+ * 읽기는 Portfolio 컬럼 + slot 합계를 사용한다. slot 합계는 짧게 캐시하고, 주기적으로 Portfolio 에 합산한다.
+ * 캐시는 증감/합산이 커밋된 직후 지워서, 합산된 컬럼과 합산 전 slot 합계가 함께 읽혀 두 번 세어지지 않게 한다.
+ */
+@Slf4j
+@Service
+public class PortfolioCounterService {
+    private static final int FOLD_BATCH_SIZE = 100;
+
+    private final PortfolioCounterShardRepository shardRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final ArtistRepository artistRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PortfolioResultCache portfolioResultCache;
+    private final PortfolioSearchIndex portfolioSearchIndex;
+    private final int shards;
+
+    //portfolioId -> 샤드 증감분 합계
+    private final Cache<Long, PortfolioCounts> pendingCache;
+    //조회 중에 무효화가 일어나면 읽은 합계는 캐시에 남기지 않는다
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PortfolioCounterService(PortfolioCounterShardRepository shardRepository,
+                                   PortfolioRepository portfolioRepository,
+                                   ArtistRepository artistRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   PortfolioResultCache portfolioResultCache,
+                                   PortfolioSearchIndex portfolioSearchIndex,
+                                   @Value("${meme.counter.shards:8}") int shards,
+                                   @Value("${meme.counter.read-cache-ms:1000}") long readCacheMillis,
+                                   @Value("${meme.counter.read-cache-max-entries:10000}") long readCacheMaxEntries) {
+        this.shardRepository = shardRepository;
+        this.portfolioRepository = portfolioRepository;
+        this.artistRepository = artistRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.portfolioResultCache = portfolioResultCache;
+        this.portfolioSearchIndex = portfolioSearchIndex;
+        this.shards = Math.max(1, shards);
+        this.pendingCache = Caffeine.newBuilder()
+                .maximumSize(readCacheMaxEntries)
+                .expireAfterWrite(Duration.ofMillis(readCacheMillis))
+                .build();
+    }
+
+    //리뷰 작성
+    @Transactional
+    public void addReview(Long portfolioId, int star) {
+        increment(portfolioId, star, star, 1, 0);
+        //목록 카드의 별점/리뷰 수가 바뀜
+        portfolioResultCache.evictPortfolio(portfolioId);
+    }
+
+    //리뷰 삭제
+    @Transactional
+    public void removeReview(Long portfolioId, int star) {
+        increment(portfolioId, star, -star, -1, 0);
+        portfolioResultCache.evictPortfolio(portfolioId);
+    }
+
+    //관심 메이크업 추가
+    @Transactional
+    public void addFavorite(Long portfolioId) {
+        increment(portfolioId, 0, 0, 0, 1);
+    }
+
+    //관심 메이크업 삭제
+    @Transactional
+    public void removeFavorite(Long portfolioId) {
+        increment(portfolioId, 0, 0, 0, -1);
+    }
+
+    //관심 메이크업 증감분 일괄 반영 (관심 write-behind flush)
+    @Transactional
+    public void changeFavorites(Long portfolioId, int delta) {
+        if (delta != 0)
+            increment(portfolioId, 0, 0, 0, delta);
+    }
+
+    //아직 합산되지 않은 증감분 (없으면 ZERO)
+    public PortfolioCounts pending(Long portfolioId) {
+        return pending(List.of(portfolioId)).getOrDefault(portfolioId, PortfolioCounts.ZERO);
+    }
+
+    public Map<Long, PortfolioCounts> pending(Collection<Long> portfolioIds) {
+        Map<Long, PortfolioCounts> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long portfolioId : portfolioIds) {
+            PortfolioCounts cached = pendingCache.getIfPresent(portfolioId);
+            if (cached != null)
+                result.put(portfolioId, cached);
+            else
+                missing.add(portfolioId);
+        }
+        if (missing.isEmpty())
+            return result;
+
+        long version = invalidations.get();
+        Map<Long, PortfolioCounts> loaded = shardRepository.sumByPortfolioIdIn(missing).stream()
+                .collect(Collectors.toMap(PortfolioCounterView::getPortfolioId, PortfolioCounts::from));
+        for (Long portfolioId : missing) {
+            PortfolioCounts counts = loaded.getOrDefault(portfolioId, PortfolioCounts.ZERO);
+            result.put(portfolioId, counts);
+            pendingCache.put(portfolioId, counts);
+        }
+        //저장한 뒤 다시 확인: 무효화는 버전을 올린 다음 지우므로, 버전이 그대로면 이후 무효화가 이 값을 지운다
+        if (invalidations.get() != version)
+            missing.forEach(portfolioId -> pendingCache.asMap().remove(portfolioId, result.get(portfolioId)));
+        return result;
+    }
+
+    //샤드 증감분을 Portfolio/Artist 집계 컬럼에 합산
+    @Scheduled(fixedDelayString = "${meme.counter.fold-delay-ms:5000}")
+    public void fold() {
+        List<Long> portfolioIds;
+        do {
+            portfolioIds = shardRepository.findPendingPortfolioIds(PageRequest.of(0, FOLD_BATCH_SIZE));
+            if (portfolioIds.isEmpty())
+                return;
+
+            List<Long> batch = portfolioIds;
+            try {
+                transactionTemplate.executeWithoutResult(status -> foldBatch(batch));
+            } catch (RuntimeException e) {
+                //락 경합으로 실패한 배치는 다음 주기에 다시 합산
+                log.warn("portfolio counter fold failed : {}", e.getMessage());
+                return;
+            }
+        } while (portfolioIds.size() == FOLD_BATCH_SIZE);
+    }
+
+    private void foldBatch(List<Long> portfolioIds) {
+        List<PortfolioCounterShard> shardList = shardRepository.findForUpdateByPortfolioIdIn(portfolioIds);
+
+        Map<Long, PortfolioCounts> deltas = new HashMap<>();
+        for (PortfolioCounterShard shard : shardList) {
+            PortfolioCounts counts = new PortfolioCounts(shard.getStarSum(), shard.getReviewCount(),
+                    shard.getFavoriteCount(), shard.getStarCounts());
+            deltas.merge(shard.getPortfolioId(), counts, PortfolioCounts::plus);
+        }
+
+        //rating 컬럼이 바뀌면 별점 순 목록의 순서가 달라진다
+        List<Long> rated = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue().reviewCount() != 0 || entry.getValue().starSum() != 0)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!rated.isEmpty()) {
+            portfolioResultCache.evictSort("review");
+            portfolioSearchIndex.refreshRatingsAfterCommit(rated);
+        }
+
+        deltas.forEach((portfolioId, delta) -> {
+            portfolioRepository.applyCounterDelta(portfolioId, delta.starSum(), delta.reviewCount(), delta.favoriteCount());
+            StarCounts stars = delta.starCounts();
+            if (!stars.isZero())
+                portfolioRepository.applyStarCountDelta(portfolioId, stars.star1(), stars.star2(), stars.star3(),
+                        stars.star4(), stars.star5());
+            if (delta.reviewCount() != 0)
+                artistRepository.updateReviewCountByPortfolioId(portfolioId, delta.reviewCount());
+        });
+        shardRepository.deleteAllInBatch(shardList);
+        invalidateAfterCommit(portfolioIds);
+    }
+
+    //star: 별점별 리뷰 수를 증감할 별점 (리뷰가 아니면 0)
+    private void increment(Long portfolioId, int star, long starSum, int reviewCount, int favoriteCount) {
+        int slot = ThreadLocalRandom.current().nextInt(shards);
+        shardRepository.increment(portfolioId, slot, star, starSum, reviewCount, favoriteCount);
+        invalidateAfterCommit(List.of(portfolioId));
+    }
+
+    private void invalidateAfterCommit(Collection<Long> portfolioIds) {
+        List<Long> portfolioIdList = List.copyOf(portfolioIds);
+        AfterCommit.run(() -> {
+            invalidations.incrementAndGet();
+            pendingCache.invalidateAll(portfolioIdList);
+        });
+    }
+}
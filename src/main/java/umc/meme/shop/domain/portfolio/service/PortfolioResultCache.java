@@ -0,0 +1,106 @@
+package umc.meme.shop.domain.portfolio.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import umc.meme.shop.domain.portfolio.dto.response.PortfolioDto;
+import umc.meme.shop.domain.portfolio.dto.response.PortfolioPageDto;
+import umc.meme.shop.global.enums.Category;
+import umc.meme.shop.global.util.AfterCommit;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 전체/카테고리 목록 페이지 결과 캐시
+ * (종류, 카테고리, 페이지, 정렬) 별로 만들어 둔 응답을 ttl 동안 재사용한다. 관심 여부(isFavorite)는 모델마다 다르므로
+ * 관심 여부 없이 저장하고 조회할 때 채운다.
+ * 쓰기는 커밋 뒤 영향받는 항목만 지운다: 포트폴리오 내용 변경은 그 포트폴리오가 들어 있는 항목,
+ * 목록 구성 변경(생성/카테고리·가격·차단 변경)은 전체 목록·해당 카테고리 항목, 정렬 값 변경은 그 정렬의 항목.
+ */
+@Component
+public class PortfolioResultCache {
+    private final Cache<ResultKey, CachedResult> cache;
+
+    //조회 중에 무효화가 일어나면 그 결과는 저장하지 않는다 (무효화 이전 데이터로 만든 결과일 수 있음)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PortfolioResultCache(@Value("${meme.result-cache.max-entries:1000}") long maxEntries,
+                                @Value("${meme.result-cache.ttl:PT5M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public PortfolioPageDto page(ResultKey key, Supplier<PortfolioPageDto> loader) {
+        return get(key, loader, page -> page.getContent().stream().map(PortfolioDto::getPortfolioId).toList());
+    }
+
+    //포트폴리오 카드 내용 변경 (이름/이미지/별점 등)
+    public void evictPortfolio(Long portfolioId) {
+        evictPortfolios(List.of(portfolioId));
+    }
+
+    public void evictPortfolios(Collection<Long> portfolioIds) {
+        if (portfolioIds.isEmpty())
+            return;
+        Set<Long> targets = Set.copyOf(portfolioIds);
+        evictAfterCommit((key, result) -> result.portfolioIds().stream().anyMatch(targets::contains));
+    }
+
+    //목록 구성 변경: 포트폴리오가 생기거나 카테고리/가격/차단 여부가 바뀌면 순서와 전체 개수가 달라진다
+    public void evictListing(Category category) {
+        evictAfterCommit((key, result) -> key.type() != ResultType.CATEGORY || key.category() == category);
+    }
+
+    //정렬 값 변경 (sortBy: review, popular 등)
+    public void evictSort(String sortBy) {
+        evictAfterCommit((key, result) -> sortBy.equals(key.sortBy()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(ResultKey key, Supplier<T> loader, Function<T, List<Long>> idsOf) {
+        CachedResult cached = cache.getIfPresent(key);
+        if (cached != null)
+            return (T) cached.value();
+
+        long version = invalidations.get();
+        T value = loader.get();
+        if (invalidations.get() == version)
+            cache.put(key, new CachedResult(value, Set.copyOf(idsOf.apply(value))));
+        return value;
+    }
+
+    private void evictAfterCommit(BiPredicate<ResultKey, CachedResult> stale) {
+        AfterCommit.run(() -> {
+            invalidations.incrementAndGet();
+            cache.asMap().entrySet().removeIf(entry -> stale.test(entry.getKey(), entry.getValue()));
+        });
+    }
+
+    public enum ResultType {
+        ALL, CATEGORY
+    }
+
+    //category 는 CATEGORY 에서만
+    public record ResultKey(ResultType type, Category category, int page, String sortBy) {
+        public static ResultKey all(int page, String sortBy) {
+            return new ResultKey(ResultType.ALL, null, page, sortBy);
+        }
+
+        public static ResultKey category(Category category, int page, String sortBy) {
+            return new ResultKey(ResultType.CATEGORY, category, page, sortBy);
+        }
+    }
+
+    private record CachedResult(Object value, Set<Long> portfolioIds) {
+    }
+}
@@ -6,10 +6,10 @@ import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import umc.meme.shop.domain.artist.entity.Artist;
 import umc.meme.shop.domain.artist.repository.ArtistRepository;
-import umc.meme.shop.domain.favorite.entity.FavoritePortfolio;
-import umc.meme.shop.domain.favorite.repository.FavoritePortfolioRepository;
-import umc.meme.shop.domain.model.entity.Model;
+import umc.meme.shop.domain.favorite.service.FavoriteCache;
 import umc.meme.shop.domain.model.repository.ModelRepository;
+import umc.meme.shop.domain.popularity.service.PopularityCounterService;
+import umc.meme.shop.domain.popularity.service.TrendingService;
 import umc.meme.shop.domain.portfolio.dto.request.CreatePortfolioDto;
 import umc.meme.shop.domain.portfolio.dto.request.UpdatePortfolioDto;
 import umc.meme.shop.domain.portfolio.dto.response.PortfolioDetailDto;
@@ -20,12 +20,14 @@ import umc.meme.shop.domain.portfolio.entity.Portfolio;
 import umc.meme.shop.domain.portfolio.entity.PortfolioImg;
 import umc.meme.shop.domain.portfolio.repository.PortfolioImgRepository;
 import umc.meme.shop.domain.portfolio.repository.PortfolioRepository;
+import umc.meme.shop.domain.search.index.PortfolioSearchIndex;
 import umc.meme.shop.global.ErrorStatus;
+import umc.meme.shop.global.enums.Category;
+import umc.meme.shop.global.enums.PopularityTarget;
 import umc.meme.shop.global.exception.GlobalException;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -34,7 +36,14 @@ public class PortfolioService {
     private final PortfolioRepository portfolioRepository;
     private final PortfolioImgRepository portfolioImgRepository;
     private final ModelRepository modelRepository;
-    private final FavoritePortfolioRepository favoritePortfolioRepository;
+    private final FavoriteCache favoriteCache;
+    private final PortfolioSearchIndex portfolioSearchIndex;
+    private final PortfolioCardReader portfolioCardReader;
+    private final PortfolioCounterService portfolioCounterService;
+    private final PopularityCounterService popularityCounterService;
+    private final PortfolioResultCache portfolioResultCache;
+    private final RecommendationSnapshots recommendationSnapshots;
+    private final TrendingService trendingService;
 
     //포트폴리오 생성
     @Transactional
@@ -55,6 +64,10 @@ public class PortfolioService {
 
         artist.updatePortfolioList(portfolio);
         portfolioRepository.save(portfolio);
+        portfolioSearchIndex.indexAfterCommit(portfolio);
+        portfolioResultCache.evictListing(portfolio.getCategory());
+        recommendationSnapshots.markStale();
+        trendingService.register(portfolio.getPortfolioId(), portfolio.getCategory());
         return portfolio.getPortfolioId();
     }
 
@@ -64,33 +77,30 @@ public class PortfolioService {
         Artist artist = artistRepository.findById(artistId)
                 .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_ARTIST));
 
-        List<Portfolio> portfolioList = artist.getPortfolioList();
+        //isblock이 아닌 포트폴리오만 DB에서 paging
+        Pageable pageable = PageRequest.of(page, 30, Sort.by("portfolioId"));
+        Page<Portfolio> portfolioPage = portfolioRepository.findByArtist(artist, pageable);
 
-        //isblock이면 리스트에서 제거
-        portfolioList.removeIf(Portfolio::isBlock);
-
-        //list를 page로 변환
-        Page<Portfolio> portfolioPage = getPage(page, portfolioList);
-
-        return PortfolioPageDto.from(portfolioPage);
+        List<Long> portfolioIdList = portfolioPage.getContent().stream()
+                .map(Portfolio::getPortfolioId)
+                .toList();
+        return PortfolioPageDto.from(portfolioPage, portfolioCardReader.read(portfolioIdList));
     }
 
     // 포트폴리오 하나만 조회
     public PortfolioDetailDto getPortfolioDetails(Long userId, Long portfolioId) {
-        Model model = modelRepository.findById(userId)
-                .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_MODEL));
+        if(!modelRepository.existsById(userId))
+            throw new GlobalException(ErrorStatus.NOT_EXIST_MODEL);
         Portfolio portfolio = portfolioRepository.findById(portfolioId)
                 .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_PORTFOLIO));
 
         if(portfolio.isBlock())
             throw new GlobalException(ErrorStatus.BLOCKED_PORTFOLIO);
 
-        boolean isFavorite = false;
-        Optional<FavoritePortfolio> favoritePortfolio = favoritePortfolioRepository.findByModelAndPortfolio(model, portfolio);
-        if(favoritePortfolio.isPresent())
-            isFavorite = true;
+        boolean isFavorite = favoriteCache.isFavoritePortfolio(userId, portfolioId);
+        popularityCounterService.recordView(PopularityTarget.PORTFOLIO, portfolioId);
 
-        return PortfolioDetailDto.from(portfolio, isFavorite);
+        return PortfolioDetailDto.from(portfolio, isFavorite, portfolioCounterService.pending(portfolioId));
     }
 
     // 포트폴리오 수정/삭제
@@ -105,14 +115,28 @@ public class PortfolioService {
         if(portfolio.isBlock() && dto.getIsBlock())
             throw new GlobalException(ErrorStatus.BLOCKED_PORTFOLIO);
 
-        if (!portfolio.getArtist().equals(artist)) {
+        if (!portfolio.getArtist().getUserId().equals(artist.getUserId())) {
             throw new GlobalException(ErrorStatus.NOT_AUTHORIZED_PORTFOLIO);
         }
 
         if(!dto.getPortfolioImgList().isEmpty())
             updatePortfolioImg(portfolio, dto.getPortfolioImgList()); // 수정
 
+        Category category = portfolio.getCategory();
+        int price = portfolio.getPrice();
+        boolean isBlock = portfolio.isBlock();
         portfolio.updatePortfolio(dto);
+        portfolioSearchIndex.indexAfterCommit(portfolio);
+
+        //목록 순서/구성이 바뀌면 전체·카테고리 목록을, 아니면 이 포트폴리오가 들어 있는 결과만 비운다
+        if (category != portfolio.getCategory() || price != portfolio.getPrice() || isBlock != portfolio.isBlock()) {
+            portfolioResultCache.evictListing(category);
+            portfolioResultCache.evictListing(portfolio.getCategory());
+            recommendationSnapshots.markStale();
+        }
+        if (category != portfolio.getCategory() || isBlock != portfolio.isBlock())
+            trendingService.updateListing(portfolio.getPortfolioId(), portfolio.getCategory(), portfolio.isBlock());
+        portfolioResultCache.evictPortfolio(portfolio.getPortfolioId());
     }
 
     private void updatePortfolioImg(Portfolio portfolio, List<PortfolioImgDto> portfolioImgDtoList) {
@@ -146,51 +170,28 @@ public class PortfolioService {
     }
 
     /**recommend**/
-    //리뷰 많은 순 포트폴리오 추천
+    //별점 높은 순 포트폴리오 추천 (추천 목록은 모두 주기적으로 만든 스냅샷에서 읽음)
     public List<SimplePortfolioDto> recommendReview(){
-        Pageable pageable = setPageRequest(0, "review");
-        Page<Portfolio> portfolioList = portfolioRepository.findAllNotBlocked(pageable);
-
-        return portfolioList.getContent().stream()
-                .map(SimplePortfolioDto::from)
-                .toList();
+        return recommendationSnapshots.byRating();
     }
 
     //최신 등록 순 포트폴리오 추천
     public List<SimplePortfolioDto> recommendRecent(){
-        Pageable pageable = setPageRequest(0, "recent");
-        Page<Portfolio> portfolioList = portfolioRepository.findAllNotBlocked(pageable);
-
-        return portfolioList.getContent().stream()
-                .map(SimplePortfolioDto::from)
-                .toList();
+        return recommendationSnapshots.recent();
     }
 
-    private Pageable setPageRequest(int page, String sortBy){
-
-        Sort sort = switch (sortBy) {
-            case "desc" -> Sort.by("price").descending();
-            case "asc" -> Sort.by("price").ascending();
-            case "review" -> Sort.by("averageStars").descending();
-            case "recent" -> Sort.by("createdAt").descending();
-            default -> throw new GlobalException(ErrorStatus.INVALID_SORT_CRITERIA);
-        };
-
-        //별점 높은 순 정렬 추가
-        Sort finalSort = sort.and(Sort.by("averageStars").descending());
-        return PageRequest.of(page, 30, finalSort);
+    //인기 순 포트폴리오 추천
+    public List<SimplePortfolioDto> recommendPopular(){
+        return recommendationSnapshots.popular();
     }
 
-    private Page<Portfolio> getPage(int page, List<Portfolio> list){
-        Pageable pageable = PageRequest.of(page, 30);
-
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), list.size());
-
-        //list를 page로 변환
-        return new PageImpl<>(list.subList(start, end),
-                pageable, list.size());
+    //카테고리별 별점 높은 순 포트폴리오 추천
+    public List<SimplePortfolioDto> recommendCategory(Category category){
+        return recommendationSnapshots.byCategory(category);
     }
 
-
-}
\ No newline at end of file
+    //최근 관심/예약/리뷰가 몰리는 순 포트폴리오 추천 (category 가 없으면 전체, 상위 목록은 메모리에서 유지)
+    public List<SimplePortfolioDto> recommendTrending(Category category){
+        return portfolioCardReader.readSimple(trendingService.top(category));
+    }
+}
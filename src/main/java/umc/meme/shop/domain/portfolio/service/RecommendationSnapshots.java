@@ -0,0 +1,138 @@
+package umc.meme.shop.domain.portfolio.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import umc.meme.shop.domain.portfolio.dto.response.SimplePortfolioDto;
+import umc.meme.shop.domain.portfolio.repository.PortfolioRepository;
+import umc.meme.shop.global.enums.Category;
+import umc.meme.shop.global.util.AfterCommit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추천 목록 스냅샷 (별점 순, 최신 순, 인기 순, 카테고리별 별점 순 상위 N 개)
+ * 백그라운드 작업이 목록을 모두 만든 뒤 불변 스냅샷 하나로 묶어 volatile 참조를 한 번에 바꾼다.
+ * 요청 스레드는 현재 스냅샷을 읽기만 하므로 락도 DB 조회도 없다.
+ * refresh-interval 마다 다시 만들고, 포트폴리오 생성/차단처럼 목록 구성이 바뀌면 다음 확인 주기에 바로 다시 만든다.
+ */
+@Slf4j
+@Component
+public class RecommendationSnapshots {
+    private static final Sort BY_RATING = Sort.by("rating").descending();
+
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioCardReader portfolioCardReader;
+    private final Clock clock;
+    private final Duration refreshInterval;
+    private final int size;
+    private final int categorySize;
+
+    private volatile Snapshot current;
+    private volatile boolean stale;
+
+    public RecommendationSnapshots(PortfolioRepository portfolioRepository,
+                                   PortfolioCardReader portfolioCardReader,
+                                   Clock clock,
+                                   @Value("${meme.recommend.refresh-interval:PT1M}") Duration refreshInterval,
+                                   @Value("${meme.recommend.size:30}") int size,
+                                   @Value("${meme.recommend.category-size:10}") int categorySize) {
+        this.portfolioRepository = portfolioRepository;
+        this.portfolioCardReader = portfolioCardReader;
+        this.clock = clock;
+        this.refreshInterval = refreshInterval;
+        this.size = size;
+        this.categorySize = categorySize;
+    }
+
+    public List<SimplePortfolioDto> byRating() {
+        return snapshot().byRating();
+    }
+
+    public List<SimplePortfolioDto> recent() {
+        return snapshot().recent();
+    }
+
+    public List<SimplePortfolioDto> popular() {
+        return snapshot().popular();
+    }
+
+    public List<SimplePortfolioDto> byCategory(Category category) {
+        return snapshot().byCategory().getOrDefault(category, List.of());
+    }
+
+    //커밋 뒤 다음 확인 주기에 다시 만든다
+    public void markStale() {
+        AfterCommit.run(() -> stale = true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${meme.recommend.stale-check:PT5S}")
+    public void refreshIfDue() {
+        Snapshot snapshot = current;
+        if (stale || snapshot == null || !clock.instant().isBefore(snapshot.builtAt().plus(refreshInterval)))
+            refresh();
+    }
+
+    public synchronized void refresh() {
+        //만드는 도중 들어온 변경은 다음 주기에 반영되도록 먼저 내린다
+        stale = false;
+        try {
+            Map<Category, List<SimplePortfolioDto>> byCategory = new EnumMap<>(Category.class);
+            for (Category category : Category.values()) {
+                List<Long> ids = portfolioRepository.findNotBlockedIdsByCategory(category,
+                        PageRequest.of(0, categorySize, BY_RATING));
+                byCategory.put(category, portfolioCardReader.readSimple(ids));
+            }
+
+            current = new Snapshot(
+                    top(BY_RATING),
+                    top(Sort.by("createdAt").descending().and(BY_RATING)),
+                    top(Sort.by("popularity").descending().and(BY_RATING)),
+                    Map.copyOf(byCategory),
+                    clock.instant());
+        } catch (RuntimeException e) {
+            //이전 스냅샷을 그대로 두고 다음 주기에 다시 시도
+            stale = true;
+            log.warn("recommendation snapshot refresh failed : {}", e.getMessage());
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = current;
+        return snapshot != null ? snapshot : loadFirst();
+    }
+
+    //아직 한 번도 만들지 못했으면 요청 스레드에서 만든다 (기동 직후 한 번)
+    private synchronized Snapshot loadFirst() {
+        if (current == null)
+            refresh();
+        return current != null ? current : Snapshot.EMPTY;
+    }
+
+    private List<SimplePortfolioDto> top(Sort sort) {
+        return portfolioCardReader.readSimple(portfolioRepository.findNotBlockedIds(PageRequest.of(0, size, sort)));
+    }
+
+    private record Snapshot(List<SimplePortfolioDto> byRating,
+                            List<SimplePortfolioDto> recent,
+                            List<SimplePortfolioDto> popular,
+                            Map<Category, List<SimplePortfolioDto>> byCategory,
+                            Instant builtAt) {
+        private static final Snapshot EMPTY = new Snapshot(List.of(), List.of(), List.of(), Map.of(), Instant.EPOCH);
+    }
+}
@@ -0,0 +1,33 @@
+package umc.meme.shop.domain.recommendation.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포트폴리오별 유사 포트폴리오 상위 K 개 (함께 관심 등록/예약된 정도)
+ * PortfolioSimilarityService 가 주기적으로 전체를 다시 계산해 교체하고, 기동 시 읽어 메모리에 올린다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_portfolio_neighbor", columnNames = {"portfolio_id", "neighbor_id"}))
+public class PortfolioNeighbor {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long portfolioNeighborId;
+
+    @Column(name = "portfolio_id", nullable = false)
+    private Long portfolioId;
+
+    @Column(name = "neighbor_id", nullable = false)
+    private Long neighborId;
+
+    //가중 코사인 유사도 (0 ~ 1)
+    @Column(nullable = false)
+    private double score;
+}
@@ -0,0 +1,12 @@
+package umc.meme.shop.domain.recommendation.repository;
+
+import umc.meme.shop.global.enums.PersonalColor;
+import umc.meme.shop.global.enums.SkinType;
+
+//모델-포트폴리오 상호작용 (관심 등록, 예약) + 모델 세그먼트 projection
+public interface InteractionView {
+    Long getModelId();
+    Long getPortfolioId();
+    SkinType getSkinType();
+    PersonalColor getPersonalColor();
+}
@@ -0,0 +1,8 @@
+package umc.meme.shop.domain.recommendation.repository;
+
+//유사 포트폴리오 projection
+public interface NeighborView {
+    Long getPortfolioId();
+    Long getNeighborId();
+    double getScore();
+}
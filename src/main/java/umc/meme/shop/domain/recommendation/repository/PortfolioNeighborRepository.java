@@ -0,0 +1,26 @@
+package umc.meme.shop.domain.recommendation.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import umc.meme.shop.domain.recommendation.entity.PortfolioNeighbor;
+
+import java.util.List;
+
+public interface PortfolioNeighborRepository extends JpaRepository<PortfolioNeighbor, Long>, PortfolioNeighborRepositoryCustom {
+    //포트폴리오별 이웃 (유사도 내림차순)
+    @Query("SELECT n.portfolioId AS portfolioId, n.neighborId AS neighborId, n.score AS score " +
+            "FROM PortfolioNeighbor n ORDER BY n.portfolioId, n.score DESC")
+    List<NeighborView> findAllViews();
+
+    //차단되지 않은 포트폴리오의 관심 등록
+    @Query("SELECT m.userId AS modelId, p.portfolioId AS portfolioId, m.skinType AS skinType, m.personalColor AS personalColor " +
+            "FROM FavoritePortfolio f JOIN f.portfolio p JOIN Model m ON m.userId = f.model.userId " +
+            "WHERE p.isBlock = false")
+    List<InteractionView> findFavoriteInteractions();
+
+    //차단되지 않은 포트폴리오의 예약 (취소 제외)
+    @Query("SELECT m.userId AS modelId, p.portfolioId AS portfolioId, m.skinType AS skinType, m.personalColor AS personalColor " +
+            "FROM Reservation r JOIN r.portfolio p JOIN Model m ON m.userId = r.model.userId " +
+            "WHERE r.status <> umc.meme.shop.global.enums.Status.CANCEL AND p.isBlock = false")
+    List<InteractionView> findReservationInteractions();
+}
@@ -0,0 +1,11 @@
+package umc.meme.shop.domain.recommendation.repository;
+
+import umc.meme.shop.global.util.ItemSimilarity.Neighbor;
+
+import java.util.List;
+import java.util.Map;
+
+public interface PortfolioNeighborRepositoryCustom {
+    //이웃 테이블 전체를 새 계산 결과로 교체 (JDBC batch)
+    void replaceAll(Map<Long, List<Neighbor>> neighbors);
+}
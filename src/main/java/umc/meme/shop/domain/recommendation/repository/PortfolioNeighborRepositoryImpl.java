@@ -0,0 +1,36 @@
+package umc.meme.shop.domain.recommendation.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import umc.meme.shop.global.util.ItemSimilarity.Neighbor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class PortfolioNeighborRepositoryImpl implements PortfolioNeighborRepositoryCustom {
+    private static final int BATCH_SIZE = 500;
+
+    private static final String DELETE_ALL = "DELETE FROM portfolio_neighbor";
+    private static final String INSERT_NEIGHBOR =
+            "INSERT INTO portfolio_neighbor (portfolio_id, neighbor_id, score) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void replaceAll(Map<Long, List<Neighbor>> neighbors) {
+        List<Row> rows = new ArrayList<>();
+        neighbors.forEach((portfolioId, list) -> list.forEach(neighbor -> rows.add(new Row(portfolioId, neighbor))));
+
+        jdbcTemplate.update(DELETE_ALL);
+        jdbcTemplate.batchUpdate(INSERT_NEIGHBOR, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.portfolioId());
+            ps.setLong(2, row.neighbor().itemId());
+            ps.setDouble(3, row.neighbor().score());
+        });
+    }
+
+    private record Row(long portfolioId, Neighbor neighbor) {
+    }
+}
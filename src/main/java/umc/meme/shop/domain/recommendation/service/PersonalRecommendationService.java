@@ -0,0 +1,93 @@
+package umc.meme.shop.domain.recommendation.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import umc.meme.shop.domain.favorite.service.FavoriteCache;
+import umc.meme.shop.domain.model.entity.Model;
+import umc.meme.shop.domain.model.repository.ModelRepository;
+import umc.meme.shop.domain.portfolio.dto.response.SimplePortfolioDto;
+import umc.meme.shop.domain.portfolio.service.PortfolioCardReader;
+import umc.meme.shop.domain.portfolio.service.RecommendationSnapshots;
+import umc.meme.shop.domain.reservation.repository.ReservationRepository;
+import umc.meme.shop.global.ErrorStatus;
+import umc.meme.shop.global.exception.GlobalException;
+import umc.meme.shop.global.util.ItemSimilarity.Neighbor;
+
+import java.util.*;
+
+/**
+ * 모델 맞춤 포트폴리오 추천
+ * 모델이 관심 등록/예약한 포트폴리오의 이웃 점수를 합산하고, 같은 세그먼트(피부 타입, 퍼스널 컬러)에서 인기 있는 포트폴리오를 더해 섞는다.
+ * 이웃과 세그먼트 순위는 PortfolioSimilarityService 가 미리 계산해 둔 값이라 요청마다 DB 는 seed 조회와 카드 조회만 한다.
+ * 상호작용이 없는 모델은 세그먼트 인기 순, 세그먼트 데이터도 없으면 전체 인기 순 추천을 돌려준다.
+ */
+@Service
+public class PersonalRecommendationService {
+    //세그먼트 인기 점수 비중 (개인 이웃 점수 최댓값을 1 로 맞춘 뒤 더함)
+    private static final double SEGMENT_WEIGHT = 0.3;
+
+    private final PortfolioSimilarityService portfolioSimilarityService;
+    private final RecommendationSnapshots recommendationSnapshots;
+    private final PortfolioCardReader portfolioCardReader;
+    private final FavoriteCache favoriteCache;
+    private final ModelRepository modelRepository;
+    private final ReservationRepository reservationRepository;
+    private final int size;
+
+    public PersonalRecommendationService(PortfolioSimilarityService portfolioSimilarityService,
+                                         RecommendationSnapshots recommendationSnapshots,
+                                         PortfolioCardReader portfolioCardReader,
+                                         FavoriteCache favoriteCache,
+                                         ModelRepository modelRepository,
+                                         ReservationRepository reservationRepository,
+                                         @Value("${meme.recommend.personal-size:20}") int size) {
+        this.portfolioSimilarityService = portfolioSimilarityService;
+        this.recommendationSnapshots = recommendationSnapshots;
+        this.portfolioCardReader = portfolioCardReader;
+        this.favoriteCache = favoriteCache;
+        this.modelRepository = modelRepository;
+        this.reservationRepository = reservationRepository;
+        this.size = size;
+    }
+
+    public List<SimplePortfolioDto> recommend(Long modelId) {
+        Model model = modelRepository.findById(modelId)
+                .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_MODEL));
+
+        //seed: 관심 포트폴리오 + 예약한 포트폴리오 (예약이 더 강한 신호)
+        Map<Long, Double> seeds = new HashMap<>();
+        for (long portfolioId : favoriteCache.favoritePortfolioIds(modelId))
+            seeds.merge(portfolioId, PortfolioSimilarityService.FAVORITE_WEIGHT, Double::sum);
+        for (Long portfolioId : reservationRepository.findBookedPortfolioIdsByModelId(modelId))
+            seeds.merge(portfolioId, PortfolioSimilarityService.RESERVATION_WEIGHT, Double::sum);
+
+        Map<Long, Double> scores = new HashMap<>();
+        seeds.forEach((seedId, weight) -> {
+            for (Neighbor neighbor : portfolioSimilarityService.neighbors(seedId)) {
+                if (!seeds.containsKey(neighbor.itemId()))
+                    scores.merge(neighbor.itemId(), weight * neighbor.score(), Double::sum);
+            }
+        });
+        double max = scores.values().stream().mapToDouble(Double::doubleValue).max().orElse(1);
+        scores.replaceAll((portfolioId, score) -> score / max);
+
+        //세그먼트 순위를 1 ~ 0 으로 (1 위가 1)
+        List<Long> segmentTop = portfolioSimilarityService.segmentTop(model.getSkinType(), model.getPersonalColor());
+        for (int rank = 0; rank < segmentTop.size(); rank++) {
+            Long portfolioId = segmentTop.get(rank);
+            if (!seeds.containsKey(portfolioId))
+                scores.merge(portfolioId, SEGMENT_WEIGHT * (segmentTop.size() - rank) / segmentTop.size(), Double::sum);
+        }
+
+        if (scores.isEmpty())
+            return recommendationSnapshots.popular();
+
+        //계산 이후 차단된 포트폴리오를 빼도 size 개가 남도록 여유 있게 읽는다
+        List<Long> candidates = scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(size * 2L)
+                .map(Map.Entry::getKey)
+                .toList();
+        return portfolioCardReader.readSimpleNotBlocked(candidates, size);
+    }
+}
@@ -0,0 +1,150 @@
+package umc.meme.shop.domain.recommendation.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import umc.meme.shop.domain.recommendation.repository.InteractionView;
+import umc.meme.shop.domain.recommendation.repository.NeighborView;
+import umc.meme.shop.domain.recommendation.repository.PortfolioNeighborRepository;
+import umc.meme.shop.global.enums.PersonalColor;
+import umc.meme.shop.global.enums.SkinType;
+import umc.meme.shop.global.util.ItemSimilarity;
+import umc.meme.shop.global.util.ItemSimilarity.Interaction;
+import umc.meme.shop.global.util.ItemSimilarity.Neighbor;
+
+import java.time.Clock;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 포트폴리오 유사도(함께 관심 등록/예약된 정도)와 세그먼트(피부 타입, 퍼스널 컬러)별 인기 포트폴리오
+ * 매일 새벽 전체 상호작용으로 포트폴리오별 이웃 상위 K 개를 fork-join 으로 다시 계산해 테이블을 교체하고,
+ * 결과를 불변 스냅샷 하나로 묶어 volatile 참조를 바꾼다. 추천 요청은 스냅샷만 읽는다.
+ * 기동 시에는 저장된 이웃을 읽고, 저장된 결과가 없을 때만 계산한다.
+ */
+@Slf4j
+@Service
+public class PortfolioSimilarityService {
+    static final double FAVORITE_WEIGHT = 1.0;
+    static final double RESERVATION_WEIGHT = 2.0;
+
+    private final PortfolioNeighborRepository portfolioNeighborRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int neighborSize;
+    private final int segmentSize;
+    private final int maxBasket;
+    private final ForkJoinPool pool;
+
+    private volatile Snapshot current = Snapshot.EMPTY;
+
+    public PortfolioSimilarityService(PortfolioNeighborRepository portfolioNeighborRepository,
+                                      TransactionTemplate transactionTemplate,
+                                      Clock clock,
+                                      @Value("${meme.similarity.neighbors:20}") int neighborSize,
+                                      @Value("${meme.similarity.segment-size:50}") int segmentSize,
+                                      @Value("${meme.similarity.max-basket:200}") int maxBasket,
+                                      @Value("${meme.similarity.parallelism:0}") int parallelism) {
+        this.portfolioNeighborRepository = portfolioNeighborRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.neighborSize = neighborSize;
+        this.segmentSize = segmentSize;
+        this.maxBasket = maxBasket;
+        //0 이면 코어 수만큼
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    public List<Neighbor> neighbors(Long portfolioId) {
+        return current.neighbors().getOrDefault(portfolioId, List.of());
+    }
+
+    //세그먼트 안에서 관심/예약이 많은 순
+    public List<Long> segmentTop(SkinType skinType, PersonalColor personalColor) {
+        return current.segmentTop().getOrDefault(new Segment(skinType, personalColor), List.of());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<WeightedInteraction> interactions = readInteractions();
+        List<NeighborView> stored = portfolioNeighborRepository.findAllViews();
+        if (stored.isEmpty()) {
+            rebuild(interactions);
+            return;
+        }
+
+        Map<Long, List<Neighbor>> neighbors = new HashMap<>();
+        for (NeighborView view : stored)
+            neighbors.computeIfAbsent(view.getPortfolioId(), key -> new ArrayList<>())
+                    .add(new Neighbor(view.getNeighborId(), view.getScore()));
+        neighbors.replaceAll((portfolioId, list) -> List.copyOf(list));
+        current = new Snapshot(Map.copyOf(neighbors), segmentTop(interactions));
+        log.info("portfolio neighbors loaded : {} portfolios", neighbors.size());
+    }
+
+    @Scheduled(cron = "${meme.similarity.cron:0 30 4 * * *}")
+    public void rebuild() {
+        rebuild(readInteractions());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private synchronized void rebuild(List<WeightedInteraction> weighted) {
+        long start = clock.millis();
+        List<Interaction> interactions = weighted.stream()
+                .map(interaction -> new Interaction(interaction.modelId(), interaction.portfolioId(), interaction.weight()))
+                .toList();
+
+        Map<Long, List<Neighbor>> neighbors = ItemSimilarity.topNeighbors(interactions, neighborSize, maxBasket, pool);
+        transactionTemplate.executeWithoutResult(status -> portfolioNeighborRepository.replaceAll(neighbors));
+        current = new Snapshot(Map.copyOf(neighbors), segmentTop(weighted));
+        log.info("portfolio neighbors rebuilt : {} interactions, {} portfolios, {} ms",
+                interactions.size(), neighbors.size(), clock.millis() - start);
+    }
+
+    private List<WeightedInteraction> readInteractions() {
+        List<WeightedInteraction> interactions = new ArrayList<>();
+        for (InteractionView view : portfolioNeighborRepository.findFavoriteInteractions())
+            interactions.add(WeightedInteraction.of(view, FAVORITE_WEIGHT));
+        for (InteractionView view : portfolioNeighborRepository.findReservationInteractions())
+            interactions.add(WeightedInteraction.of(view, RESERVATION_WEIGHT));
+        return interactions;
+    }
+
+    private Map<Segment, List<Long>> segmentTop(List<WeightedInteraction> interactions) {
+        Map<Segment, Map<Long, Double>> scores = new HashMap<>();
+        for (WeightedInteraction interaction : interactions)
+            scores.computeIfAbsent(interaction.segment(), key -> new HashMap<>())
+                    .merge(interaction.portfolioId(), interaction.weight(), Double::sum);
+
+        Map<Segment, List<Long>> top = new HashMap<>();
+        scores.forEach((segment, byPortfolio) -> top.put(segment, byPortfolio.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(segmentSize)
+                .map(Map.Entry::getKey)
+                .toList()));
+        return Map.copyOf(top);
+    }
+
+    private record Segment(SkinType skinType, PersonalColor personalColor) {
+    }
+
+    private record WeightedInteraction(long modelId, long portfolioId, Segment segment, double weight) {
+        private static WeightedInteraction of(InteractionView view, double weight) {
+            return new WeightedInteraction(view.getModelId(), view.getPortfolioId(),
+                    new Segment(view.getSkinType(), view.getPersonalColor()), weight);
+        }
+    }
+
+    private record Snapshot(Map<Long, List<Neighbor>> neighbors, Map<Segment, List<Long>> segmentTop) {
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+    }
+}
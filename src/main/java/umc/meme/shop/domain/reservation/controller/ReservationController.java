@@ -4,13 +4,18 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 import umc.meme.shop.domain.reservation.dto.request.AlterReservationDto;
+import umc.meme.shop.domain.reservation.dto.request.ReservationBatchRequestDto;
 import umc.meme.shop.domain.reservation.dto.request.ReservationRequestDto;
 import umc.meme.shop.domain.reservation.service.ReservationService;
 import umc.meme.shop.global.SuccessStatus;
+import umc.meme.shop.global.enums.Status;
 import umc.meme.shop.global.response.ApiResponse;
 
+import java.time.LocalDate;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/reservation")
@@ -40,6 +45,20 @@ public class ReservationController {
         return ApiResponse.SuccessResponse(SuccessStatus.ARTIST_TIME_GET, reservationService.getArtistTime(artistId));
     }
 
+    @Operation(summary = "기간별 예약가능 시간 조회", description = "from 부터 days 일 동안 날짜별 예약 가능한 시간을 조회하는 API입니다. " +
+            "freeSlots 는 bit i 가 Times 의 i 번째 값(_00_00 부터 30분 단위)에 해당하는 비트마스크입니다.")
+    @Parameters({
+            @Parameter(name = "from", description = "조회 시작 날짜 (yyyy-MM-dd), 기본값 오늘"),
+            @Parameter(name = "days", description = "조회 일수 (1 ~ 31), 기본값 28")
+    })
+    @GetMapping("/{artistId}/availability")
+    public ApiResponse getArtistAvailability(@PathVariable Long artistId,
+                                             @RequestParam(value = "from", required = false)
+                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                             @RequestParam(value = "days", defaultValue = "28", required = false) int days){
+        LocalDate start = from == null ? LocalDate.now() : from;
+        return ApiResponse.SuccessResponse(SuccessStatus.ARTIST_AVAILABILITY_GET, reservationService.getArtistAvailability(artistId, start, days));
+    }
 
     @Operation(summary = "예약하기", description = "예약하기 기능을 수행하는 API입니다.")
     @PostMapping()
@@ -47,6 +66,13 @@ public class ReservationController {
         return ApiResponse.SuccessResponse(SuccessStatus.RESERVATION_CREATE, reservationService.createReservation(reservationDto));
     }
 
+    @Operation(summary = "여러 시간 예약하기", description = "여러 날짜/시간을 한 번에 예약하는 API입니다. " +
+            "모든 시간을 예약하거나 하나도 예약하지 않으며, 시간별 예약 결과(예약 번호 또는 실패 이유)를 반환합니다.")
+    @PostMapping("/batch")
+    public ApiResponse createReservations(@RequestBody ReservationBatchRequestDto batchDto){
+        return ApiResponse.SuccessResponse(SuccessStatus.RESERVATION_BATCH_CREATE, reservationService.createReservations(batchDto));
+    }
+
     //아티스트 예약 조회
     @Operation(summary = "아티스트 예약 조회", description = "예약 정보를 조회하는 API입니다.")
     @GetMapping("/{artistId}/artist")
@@ -60,4 +86,42 @@ public class ReservationController {
     public ApiResponse getModelReservation(@PathVariable Long modelId){
         return ApiResponse.SuccessResponse(SuccessStatus.RESERVATION_GET, reservationService.getModelReservation(modelId));
     }
+
+    //아티스트 예약 내역 조회
+    @Operation(summary = "아티스트 예약 내역 조회", description = "예약 날짜 최신 순으로 예약 내역을 페이지 단위로 조회하는 API입니다.")
+    @Parameters({
+            @Parameter(name = "status", description = "EXPECTED, COMPLETE, CANCEL (없으면 전체)"),
+            @Parameter(name = "from", description = "조회 시작 날짜 (yyyy-MM-dd, 포함)"),
+            @Parameter(name = "to", description = "조회 종료 날짜 (yyyy-MM-dd, 미포함)")
+    })
+    @GetMapping("/{artistId}/artist/history")
+    public ApiResponse getArtistReservationHistory(@PathVariable Long artistId,
+                                                   @RequestParam(value = "status", required = false) Status status,
+                                                   @RequestParam(value = "from", required = false)
+                                                   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                   @RequestParam(value = "to", required = false)
+                                                   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                   @RequestParam(value = "page", defaultValue = "0", required = false) int page){
+        return ApiResponse.SuccessResponse(SuccessStatus.RESERVATION_GET,
+                reservationService.getArtistReservationHistory(artistId, status, from, to, page));
+    }
+
+    //모델 예약 내역 조회
+    @Operation(summary = "모델 예약 내역 조회", description = "예약 날짜 최신 순으로 예약 내역을 페이지 단위로 조회하는 API입니다.")
+    @Parameters({
+            @Parameter(name = "status", description = "EXPECTED, COMPLETE, CANCEL (없으면 전체)"),
+            @Parameter(name = "from", description = "조회 시작 날짜 (yyyy-MM-dd, 포함)"),
+            @Parameter(name = "to", description = "조회 종료 날짜 (yyyy-MM-dd, 미포함)")
+    })
+    @GetMapping("/{modelId}/model/history")
+    public ApiResponse getModelReservationHistory(@PathVariable Long modelId,
+                                                  @RequestParam(value = "status", required = false) Status status,
+                                                  @RequestParam(value = "from", required = false)
+                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                  @RequestParam(value = "to", required = false)
+                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                  @RequestParam(value = "page", defaultValue = "0", required = false) int page){
+        return ApiResponse.SuccessResponse(SuccessStatus.RESERVATION_GET,
+                reservationService.getModelReservationHistory(modelId, status, from, to, page));
+    }
 }
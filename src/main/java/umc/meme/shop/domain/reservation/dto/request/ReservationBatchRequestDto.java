@@ -0,0 +1,19 @@
+package umc.meme.shop.domain.reservation.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ReservationBatchRequestDto {
+    @NotBlank(message = "modelId를 입력해주세요")
+    private Long modelId;
+    @NotBlank(message = "portfolioId를 입력해주세요")
+    private Long portfolioId;
+    @NotNull(message = "예약 장소를 입력해주세요")
+    private String location;
+    @NotNull(message = "예약 날짜와 시간을 입력해주세요")
+    private List<ReservationSlotDto> slotList; //날짜, 시간 목록 (slot 하나당 예약 하나)
+}
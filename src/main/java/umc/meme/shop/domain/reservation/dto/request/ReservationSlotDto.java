@@ -0,0 +1,15 @@
+package umc.meme.shop.domain.reservation.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import umc.meme.shop.global.enums.Times;
+
+import java.util.Date;
+
+@Data
+public class ReservationSlotDto {
+    @NotNull(message = "예약날짜를 입력해주세요")
+    private Date reservationDate;
+    @NotNull(message = "예약시간을 입력해주세요")
+    private Times time;
+}
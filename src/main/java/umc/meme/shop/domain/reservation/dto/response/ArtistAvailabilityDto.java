@@ -0,0 +1,29 @@
+package umc.meme.shop.domain.reservation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArtistAvailabilityDto {
+    private Long artistId;
+    private LocalDate from;
+    private LocalDate to;
+    private List<DailyAvailabilityDto> days; //날짜별 예약 가능 slot
+
+    public static ArtistAvailabilityDto from(Long artistId, LocalDate from, LocalDate to, List<DailyAvailabilityDto> days){
+        return ArtistAvailabilityDto.builder()
+                .artistId(artistId)
+                .from(from)
+                .to(to)
+                .days(days)
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package umc.meme.shop.domain.reservation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import umc.meme.shop.global.enums.DayOfWeek;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyAvailabilityDto {
+    private LocalDate date;
+    private DayOfWeek dayOfWeek;
+    private long freeSlots; //예약 가능한 slot 비트마스크 (bit i = Times.values()[i])
+
+    public static DailyAvailabilityDto of(LocalDate date, DayOfWeek dayOfWeek, long freeSlots){
+        return DailyAvailabilityDto.builder()
+                .date(date)
+                .dayOfWeek(dayOfWeek)
+                .freeSlots(freeSlots)
+                .build();
+    }
+}
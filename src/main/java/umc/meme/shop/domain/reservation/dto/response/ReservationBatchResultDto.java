@@ -0,0 +1,32 @@
+package umc.meme.shop.domain.reservation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import umc.meme.shop.domain.portfolio.entity.Portfolio;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationBatchResultDto {
+    private boolean booked; //모든 slot 예약 여부 (하나라도 실패하면 아무것도 예약되지 않음)
+    private String makeupName;
+    private String artistNickName;
+    private String location; //장소
+    private List<ReservationSlotResultDto> slotList;
+
+    public static ReservationBatchResultDto from(Portfolio portfolio, String location, boolean booked,
+                                                 List<ReservationSlotResultDto> slotList){
+        return ReservationBatchResultDto.builder()
+                .booked(booked)
+                .makeupName(portfolio.getMakeupName())
+                .artistNickName(portfolio.getArtist().getNickname())
+                .location(location)
+                .slotList(slotList)
+                .build();
+    }
+}
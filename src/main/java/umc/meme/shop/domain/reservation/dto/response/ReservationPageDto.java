@@ -0,0 +1,36 @@
+package umc.meme.shop.domain.reservation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import umc.meme.shop.domain.reservation.entity.Reservation;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReservationPageDto {
+    private List<ReservationResponseDto> content;
+    private int currentPage; //현재 페이지 번호
+    private int pageSize; //페이지 크기
+    private long totalNumber; //전체 예약 개수
+    private int totalPage; //전체 페이지 개수
+
+    public static ReservationPageDto from(Page<Reservation> page){
+        List<ReservationResponseDto> content = page.getContent().stream()
+                .map(ReservationResponseDto::from)
+                .toList();
+
+        return ReservationPageDto.builder()
+                .content(content)
+                .currentPage(page.getNumber())
+                .pageSize(page.getSize())
+                .totalNumber(page.getTotalElements())
+                .totalPage(page.getTotalPages())
+                .build();
+    }
+}
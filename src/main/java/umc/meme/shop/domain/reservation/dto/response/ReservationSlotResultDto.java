@@ -0,0 +1,44 @@
+package umc.meme.shop.domain.reservation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import umc.meme.shop.global.ErrorStatus;
+import umc.meme.shop.global.enums.DayOfWeek;
+import umc.meme.shop.global.enums.Times;
+
+import java.util.Date;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationSlotResultDto {
+    private Date reservationDate;
+    private DayOfWeek dayOfWeek;
+    private Times time;
+    private boolean booked;
+    private Long reservationId; //예약되지 않은 slot 은 null
+    private String reason; //예약되지 않은 이유
+
+    public static ReservationSlotResultDto booked(Date reservationDate, DayOfWeek dayOfWeek, Times time, Long reservationId){
+        return ReservationSlotResultDto.builder()
+                .reservationDate(reservationDate)
+                .dayOfWeek(dayOfWeek)
+                .time(time)
+                .booked(true)
+                .reservationId(reservationId)
+                .build();
+    }
+
+    public static ReservationSlotResultDto rejected(Date reservationDate, DayOfWeek dayOfWeek, Times time, ErrorStatus reason){
+        return ReservationSlotResultDto.builder()
+                .reservationDate(reservationDate)
+                .dayOfWeek(dayOfWeek)
+                .time(time)
+                .booked(false)
+                .reason(reason.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package umc.meme.shop.domain.reservation.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 아티스트의 날짜별 예약된 시간 비트맵 (bit i = Times.values()[i])
+ * 취소되지 않은 예약이 점유한 slot 을 한 행에 모아 두어 충돌 확인을 AND 한 번으로 끝낸다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_artist_schedule", columnNames = {"artist_id", "schedule_date"}))
+public class ArtistSchedule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long scheduleId;
+
+    @Column(name = "artist_id", nullable = false)
+    private Long artistId;
+
+    @Column(name = "schedule_date", nullable = false)
+    private LocalDate scheduleDate;
+
+    @Column(nullable = false, columnDefinition = "BIGINT default 0")
+    private long bookedSlots;
+
+    public void book(long mask) {
+        this.bookedSlots |= mask;
+    }
+
+    public void release(long mask) {
+        this.bookedSlots &= ~mask;
+    }
+
+    public static ArtistSchedule of(Long artistId, LocalDate scheduleDate) {
+        return ArtistSchedule.builder()
+                .artistId(artistId)
+                .scheduleDate(scheduleDate)
+                .bookedSlots(0)
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import umc.meme.shop.domain.common.BaseEntity;
 import umc.meme.shop.domain.model.entity.Model;
 import umc.meme.shop.domain.portfolio.entity.Portfolio;
@@ -13,8 +14,10 @@ import umc.meme.shop.global.enums.Status;
 import umc.meme.shop.domain.user.User;
 import umc.meme.shop.global.enums.DayOfWeek;
 import umc.meme.shop.global.enums.Times;
+import umc.meme.shop.global.util.SnowflakeId;
 
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
 @Builder
@@ -22,20 +25,28 @@ import java.util.Map;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_reservation_artist_date", columnList = "artist_id, reservation_date"),
+        @Index(name = "idx_reservation_model_date", columnList = "user_id, reservation_date")
+})
 public class Reservation extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long reservationId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="user_id", nullable = false)
     private User model;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="portfolio_id", nullable = false)
     private Portfolio portfolio;
 
+    //portfolio.artist 비정규화 (아티스트 예약 조회 인덱스용)
+    @Column(name = "artist_id")
+    private Long artistId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private Status status;
@@ -44,6 +55,7 @@ public class Reservation extends BaseEntity {
     private boolean isReview = false;
 
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "reservation_time_mapping",
             joinColumns = {@JoinColumn(name = "reservation_id", referencedColumnName = "reservationId")})
     @MapKeyColumn(name = "day_of_week")
@@ -65,10 +77,25 @@ public class Reservation extends BaseEntity {
         this.isReview = bool;
     }
 
+    //slot 하나(날짜, 시간)에 대한 예약
+    public static Reservation of(Model model, Portfolio portfolio, Date reservationDate,
+                                 DayOfWeek dayOfWeek, Times time, String location){
+        return Reservation.builder()
+                .model(model)
+                .portfolio(portfolio)
+                .artistId(portfolio.getArtist().getUserId())
+                .status(Status.EXPECTED)
+                .reservationDayOfWeekAndTime(new HashMap<>(Map.of(dayOfWeek, time)))
+                .reservationDate(reservationDate)
+                .location(location)
+                .build();
+    }
+
     public static Reservation from(Model model, Portfolio portfolio, ReservationRequestDto dto){
         return Reservation.builder()
                 .model(model)
                 .portfolio(portfolio)
+                .artistId(portfolio.getArtist().getUserId())
                 .status(Status.EXPECTED)
                 .reservationDayOfWeekAndTime(dto.getReservationDayOfWeekAndTime())
                 .reservationDate(dto.getReservationDate())
@@ -0,0 +1,55 @@
+package umc.meme.shop.domain.reservation.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import umc.meme.shop.domain.reservation.entity.ArtistSchedule;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+//native UPDATE 는 영향받는 테이블을 지정하지 않으면 2차 캐시 전체를 무효화하므로 artist_schedule 로 한정
+public interface ArtistScheduleRepository extends JpaRepository<ArtistSchedule, Long> {
+    Optional<ArtistSchedule> findByArtistIdAndScheduleDate(Long artistId, LocalDate scheduleDate);
+
+    //(artist_id, schedule_date) 유니크 인덱스 range scan
+    List<ArtistSchedule> findByArtistIdAndScheduleDateBetween(Long artistId, LocalDate from, LocalDate to);
+
+    //(artist, 날짜) 행이 없으면 빈 비트맵으로 생성
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "artist_schedule"))
+    @Query(value = "INSERT INTO artist_schedule (artist_id, schedule_date, booked_slots) " +
+            "VALUES (:artistId, :scheduleDate, 0) " +
+            "ON DUPLICATE KEY UPDATE booked_slots = booked_slots", nativeQuery = true)
+    int ensureExists(@Param("artistId") Long artistId, @Param("scheduleDate") LocalDate scheduleDate);
+
+    //겹치는 slot 이 없을 때만 점유 (행 락 하나로 같은 아티스트/날짜 요청만 직렬화, 0 이면 충돌)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "artist_schedule"))
+    @Query(value = "UPDATE artist_schedule SET booked_slots = booked_slots | :mask " +
+            "WHERE artist_id = :artistId AND schedule_date = :scheduleDate " +
+            "AND (booked_slots & :mask) = 0", nativeQuery = true)
+    int claim(@Param("artistId") Long artistId, @Param("scheduleDate") LocalDate scheduleDate, @Param("mask") long mask);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "artist_schedule"))
+    @Query(value = "UPDATE artist_schedule SET booked_slots = booked_slots & ~:mask " +
+            "WHERE artist_id = :artistId AND schedule_date = :scheduleDate", nativeQuery = true)
+    int release(@Param("artistId") Long artistId, @Param("scheduleDate") LocalDate scheduleDate, @Param("mask") long mask);
+
+    //최신 커밋 기준 예약된 slot (점유 실패 시 충돌 slot 확인용, 행 락)
+    @Query(value = "SELECT booked_slots FROM artist_schedule " +
+            "WHERE artist_id = :artistId AND schedule_date = :scheduleDate FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockBookedSlots(@Param("artistId") Long artistId, @Param("scheduleDate") LocalDate scheduleDate);
+
+    //비트맵 재구성용: 취소되지 않은 예약의 (아티스트, 날짜, 시간)
+    @Query("SELECT a.userId AS artistId, r.reservationDate AS reservationDate, t AS time " +
+            "FROM Reservation r JOIN r.portfolio p JOIN p.artist a JOIN r.reservationDayOfWeekAndTime t " +
+            "WHERE r.status <> umc.meme.shop.global.enums.Status.CANCEL")
+    List<ReservedSlotView> findReservedSlots();
+}
@@ -0,0 +1,8 @@
+package umc.meme.shop.domain.reservation.repository;
+
+//자동 만료 시 집계 반영에 필요한 (예약, 포트폴리오, 아티스트) projection
+public interface ExpiringReservationView {
+    Long getReservationId();
+    Long getPortfolioId();
+    Long getArtistId();
+}
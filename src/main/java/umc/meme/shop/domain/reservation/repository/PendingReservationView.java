@@ -0,0 +1,12 @@
+package umc.meme.shop.domain.reservation.repository;
+
+import umc.meme.shop.global.enums.Times;
+
+import java.util.Date;
+
+//자동 만료 대상 예약의 (예약, 날짜, 시간) projection
+public interface PendingReservationView {
+    Long getReservationId();
+    Date getReservationDate();
+    Times getTime();
+}
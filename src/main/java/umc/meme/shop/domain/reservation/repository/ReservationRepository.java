@@ -1,28 +1,86 @@
 package umc.meme.shop.domain.reservation.repository;
 
-import org.springframework.boot.Banner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import umc.meme.shop.domain.artist.entity.Artist;
 import umc.meme.shop.domain.model.entity.Model;
 import umc.meme.shop.domain.portfolio.entity.Portfolio;
 import umc.meme.shop.domain.reservation.entity.Reservation;
+import umc.meme.shop.global.enums.Status;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
-    @Query("SELECT r FROM Reservation r WHERE r.portfolio.artist = :artist")
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.portfolio p JOIN FETCH p.artist JOIN FETCH r.model " +
+            "WHERE p.artist = :artist")
     List<Reservation> findByArtist(@Param("artist") Artist artist);
 
-    @Query("SELECT r FROM Reservation r WHERE r.model = :model")
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.portfolio p JOIN FETCH p.artist JOIN FETCH r.model " +
+            "WHERE r.model = :model")
     List<Reservation> findByModel(@Param("model") Model model);
 
     @Query("SELECT r FROM Reservation r JOIN r.model m WHERE r.reservationId = :reservationId AND m.userId = :modelId")
     Optional<Reservation> findByReservationIdAndModelId(@Param("reservationId") Long reservationId, @Param("modelId") Long modelId);
 
     List<Reservation> findByModelAndPortfolio(Model model, Portfolio portfolio);
+
+    //아티스트 예약 내역 (status, 기간[from, to) 은 null 이면 조건 없음)
+    @Query(value = "SELECT r FROM Reservation r JOIN FETCH r.portfolio p JOIN FETCH p.artist JOIN FETCH r.model " +
+            "WHERE r.artistId = :artistId " + HISTORY_FILTER,
+            countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.artistId = :artistId " + HISTORY_FILTER)
+    Page<Reservation> findArtistHistory(@Param("artistId") Long artistId, @Param("status") Status status,
+                                        @Param("from") Date from, @Param("to") Date to, Pageable pageable);
+
+    //모델 예약 내역
+    @Query(value = "SELECT r FROM Reservation r JOIN FETCH r.portfolio p JOIN FETCH p.artist JOIN FETCH r.model m " +
+            "WHERE m.userId = :modelId " + HISTORY_FILTER,
+            countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.model.userId = :modelId " + HISTORY_FILTER)
+    Page<Reservation> findModelHistory(@Param("modelId") Long modelId, @Param("status") Status status,
+                                       @Param("from") Date from, @Param("to") Date to, Pageable pageable);
+
+    //모델이 예약한 포트폴리오 ID (취소 제외, 개인화 추천 seed)
+    @Query("SELECT DISTINCT r.portfolio.portfolioId FROM Reservation r " +
+            "WHERE r.model.userId = :modelId AND r.status <> umc.meme.shop.global.enums.Status.CANCEL")
+    List<Long> findBookedPortfolioIdsByModelId(@Param("modelId") Long modelId);
+
+    //artistId 가 비어 있는 기존 예약 채우기
+    @Modifying
+    @Query("UPDATE Reservation r SET r.artistId = " +
+            "(SELECT p.artist.userId FROM Portfolio p WHERE p = r.portfolio) " +
+            "WHERE r.artistId IS NULL")
+    int fillArtistId();
+
+    //자동 만료 대상: 아직 진행 예정인 예약의 날짜/시간
+    @Query("SELECT r.reservationId AS reservationId, r.reservationDate AS reservationDate, t AS time " +
+            "FROM Reservation r JOIN r.reservationDayOfWeekAndTime t " +
+            "WHERE r.status = umc.meme.shop.global.enums.Status.EXPECTED")
+    List<PendingReservationView> findPendingReservations();
+
+    //만료 처리할 예약 중 아직 EXPECTED 인 예약만 행 락 (그 사이 상태가 바뀐 예약은 제외)
+    @Query(value = "SELECT reservation_id AS reservationId, portfolio_id AS portfolioId, artist_id AS artistId " +
+            "FROM reservation WHERE reservation_id IN (:reservationIds) AND status = 'EXPECTED' FOR UPDATE", nativeQuery = true)
+    List<ExpiringReservationView> lockExpected(@Param("reservationIds") List<Long> reservationIds);
+
+    //예약들의 (아티스트, 날짜, 시간) (자동 취소 시 slot 반납용)
+    @Query("SELECT a.userId AS artistId, r.reservationDate AS reservationDate, t AS time " +
+            "FROM Reservation r JOIN r.portfolio p JOIN p.artist a JOIN r.reservationDayOfWeekAndTime t " +
+            "WHERE r.reservationId IN :reservationIds")
+    List<ReservedSlotView> findSlotsByReservationIdIn(@Param("reservationIds") Collection<Long> reservationIds);
+
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = :status WHERE r.reservationId IN :reservationIds")
+    int updateStatus(@Param("reservationIds") List<Long> reservationIds, @Param("status") Status status);
+
+    String HISTORY_FILTER = "AND (:status IS NULL OR r.status = :status) " +
+            "AND (:from IS NULL OR r.reservationDate >= :from) " +
+            "AND (:to IS NULL OR r.reservationDate < :to)";
 }
 
 
@@ -0,0 +1,12 @@
+package umc.meme.shop.domain.reservation.repository;
+
+import umc.meme.shop.global.enums.Times;
+
+import java.util.Date;
+
+//예약이 점유한 (아티스트, 날짜, 시간) projection
+public interface ReservedSlotView {
+    Long getArtistId();
+    Date getReservationDate();
+    Times getTime();
+}
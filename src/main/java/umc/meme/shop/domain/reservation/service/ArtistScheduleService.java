@@ -0,0 +1,162 @@
+package umc.meme.shop.domain.reservation.service;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import umc.meme.shop.domain.reservation.entity.ArtistSchedule;
+import umc.meme.shop.domain.reservation.entity.Reservation;
+import umc.meme.shop.domain.reservation.repository.ArtistScheduleRepository;
+import umc.meme.shop.domain.reservation.repository.ReservedSlotView;
+import umc.meme.shop.global.ErrorStatus;
+import umc.meme.shop.global.exception.GlobalException;
+import umc.meme.shop.global.util.AfterCommit;
+import umc.meme.shop.global.util.TimeSlots;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아티스트 날짜별 예약 slot 비트맵 관리
+ * 예약 생성 시 아티스트의 모든 예약과의 충돌을 비트 AND 한 번으로 확인하고, 조회용 비트맵은 메모리에 캐시한다.
+ * 점유는 조건부 UPDATE 한 번으로 처리해 같은 (아티스트, 날짜) 요청만 행 락으로 직렬화되고,
+ * 다른 아티스트/날짜의 예약은 서로 기다리지 않는다. 경합에서 진 요청은 영향받은 행 0 으로 바로 거절된다.
+ * 캐시는 충돌했던 (아티스트, 날짜) 의 최신 비트맵을 힌트로만 들고 있고, 거절은 항상 DB 의 최신 커밋 값으로 정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArtistScheduleService {
+    private final ArtistScheduleRepository artistScheduleRepository;
+
+    //(artistId, 날짜) -> 예약된 slot
+    private final Map<ScheduleKey, Long> bookedCache = new ConcurrentHashMap<>();
+    //읽는 중에 반납이 커밋되면 읽은 값은 캐시에 남기지 않는다
+    private final AtomicLong invalidations = new AtomicLong();
+
+    //비트맵 테이블이 비어 있으면 기존 예약으로 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (artistScheduleRepository.count() > 0)
+            return;
+
+        Map<ScheduleKey, Long> slots = new HashMap<>();
+        for (ReservedSlotView view : artistScheduleRepository.findReservedSlots()) {
+            ScheduleKey key = new ScheduleKey(view.getArtistId(), TimeSlots.toLocalDate(view.getReservationDate()));
+            slots.merge(key, TimeSlots.mask(view.getTime()), (a, b) -> a | b);
+        }
+        slots.forEach((key, booked) -> {
+            ArtistSchedule schedule = ArtistSchedule.of(key.artistId(), key.date());
+            schedule.book(booked);
+            artistScheduleRepository.save(schedule);
+        });
+        log.info("artist schedule backfilled : {} rows", slots.size());
+    }
+
+    //기간 내 날짜별 예약된 slot (예약이 없는 날짜는 포함되지 않음)
+    public Map<LocalDate, Long> bookedSlots(Long artistId, LocalDate from, LocalDate to) {
+        Map<LocalDate, Long> booked = new HashMap<>();
+        for (ArtistSchedule schedule : artistScheduleRepository.findByArtistIdAndScheduleDateBetween(artistId, from, to))
+            booked.put(schedule.getScheduleDate(), schedule.getBookedSlots());
+        return booked;
+    }
+
+    //slot 점유 (이미 예약된 slot 과 겹치면 예외)
+    public void book(Long artistId, LocalDate date, long mask) {
+        if (!tryBook(artistId, date, mask))
+            throw new GlobalException(ErrorStatus.NOT_ALLOW_DUPLICATED_RESERVATION);
+    }
+
+    //slot 점유 (이미 예약된 slot 과 겹치면 false)
+    public boolean tryBook(Long artistId, LocalDate date, long mask) {
+        ScheduleKey key = new ScheduleKey(artistId, date);
+        //캐시에서 겹쳐 보이면 쓰기 없이 최신 비트맵만 다시 읽어, 실제로 겹칠 때만 거절 (반납된 slot 을 캐시로 거절하지 않도록)
+        Long cached = bookedCache.get(key);
+        if (cached != null && TimeSlots.overlaps(cached, mask)
+                && TimeSlots.overlaps(lockBookedSlots(artistId, date), mask))
+            return false;
+
+        artistScheduleRepository.ensureExists(artistId, date);
+        if (artistScheduleRepository.claim(artistId, date, mask) == 0) {
+            //다음 요청을 위해 충돌한 최신 비트맵을 캐시에 둔다
+            lockBookedSlots(artistId, date);
+            return false;
+        }
+
+        AfterCommit.run(() -> bookedCache.computeIfPresent(key, (k, booked) -> booked | mask));
+        return true;
+    }
+
+    /*
+     * 최신 커밋 기준 예약된 slot (행 락을 잡는 locking read 라 트랜잭션 스냅샷과 무관)
+     * 점유 실패 시 충돌한 slot 확인에 쓰고, 읽은 값으로 캐시를 갱신한다.
+     */
+    public long lockBookedSlots(Long artistId, LocalDate date) {
+        ScheduleKey key = new ScheduleKey(artistId, date);
+        long version = invalidations.get();
+        long booked = artistScheduleRepository.lockBookedSlots(artistId, date).orElse(0L);
+        bookedCache.put(key, booked);
+        //저장한 뒤 다시 확인: 반납은 버전을 올린 다음 지우므로, 버전이 그대로면 이후 반납이 이 값을 지운다
+        if (invalidations.get() != version)
+            bookedCache.remove(key, booked);
+        return booked;
+    }
+
+    //slot 반납
+    public void release(Long artistId, LocalDate date, long mask) {
+        artistScheduleRepository.release(artistId, date, mask);
+        //반납은 캐시를 비워 다음 충돌 시 DB 값으로 다시 읽는다 (캐시에 남은 slot 으로 잘못 거절하지 않도록)
+        ScheduleKey key = new ScheduleKey(artistId, date);
+        AfterCommit.run(() -> {
+            invalidations.incrementAndGet();
+            bookedCache.remove(key);
+        });
+    }
+
+    //여러 예약의 slot 반납 (아티스트, 날짜 순으로 행 락을 잡아 같은 배치끼리 락 순서를 맞춘다)
+    public void release(List<ReservedSlotView> slots) {
+        Map<ScheduleKey, Long> masks = new TreeMap<>(
+                Comparator.comparing(ScheduleKey::artistId).thenComparing(ScheduleKey::date));
+        for (ReservedSlotView view : slots) {
+            ScheduleKey key = new ScheduleKey(view.getArtistId(), TimeSlots.toLocalDate(view.getReservationDate()));
+            masks.merge(key, TimeSlots.mask(view.getTime()), (a, b) -> a | b);
+        }
+        masks.forEach((key, mask) -> release(key.artistId(), key.date(), mask));
+    }
+
+    public void book(Reservation reservation) {
+        book(artistIdOf(reservation), TimeSlots.toLocalDate(reservation.getReservationDate()), maskOf(reservation));
+    }
+
+    public void release(Reservation reservation) {
+        release(artistIdOf(reservation), TimeSlots.toLocalDate(reservation.getReservationDate()), maskOf(reservation));
+    }
+
+    //지난 날짜 캐시 정리
+    @Scheduled(cron = "0 0 0 * * *")
+    public void evictPast() {
+        LocalDate today = LocalDate.now();
+        bookedCache.keySet().removeIf(key -> key.date().isBefore(today));
+    }
+
+    private Long artistIdOf(Reservation reservation) {
+        return reservation.getPortfolio().getArtist().getUserId();
+    }
+
+    private long maskOf(Reservation reservation) {
+        return TimeSlots.mask(reservation.getReservationDayOfWeekAndTime().values());
+    }
+
+    private record ScheduleKey(Long artistId, LocalDate date) {
+    }
+}
@@ -0,0 +1,162 @@
+package umc.meme.shop.domain.reservation.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import umc.meme.shop.domain.artist.repository.ArtistRepository;
+import umc.meme.shop.domain.popularity.service.PopularityCounterService;
+import umc.meme.shop.domain.portfolio.repository.PortfolioRepository;
+import umc.meme.shop.domain.reservation.entity.Reservation;
+import umc.meme.shop.domain.reservation.repository.ExpiringReservationView;
+import umc.meme.shop.domain.reservation.repository.PendingReservationView;
+import umc.meme.shop.domain.reservation.repository.ReservationRepository;
+import umc.meme.shop.global.enums.Status;
+import umc.meme.shop.global.enums.Times;
+import umc.meme.shop.global.util.HashedTimingWheel;
+import umc.meme.shop.global.util.TimeSlots;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 지난 EXPECTED 예약 자동 완료/취소
+ * 예약 시간이 끝난 뒤 grace 가 지나면 설정한 상태(COMPLETE 또는 CANCEL)로 바꾼다.
+ * 만료 시각은 타이밍 휠에 올려 두고 tick 마다 만료된 예약만 꺼내므로 주기적인 전체 조회가 필요 없고,
+ * 상태 변경은 배치 단위로 행 락 + 벌크 UPDATE 한 번으로 처리한다.
+ */
+@Slf4j
+@Service
+public class ReservationExpiryService {
+    private static final int WHEEL_SIZE = 512;
+    private static final int EXPIRE_BATCH_SIZE = 500;
+    private static final Duration SLOT_LENGTH = Duration.ofMinutes(30);
+
+    private final ReservationRepository reservationRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final ArtistRepository artistRepository;
+    private final PopularityCounterService popularityCounterService;
+    private final ArtistScheduleService artistScheduleService;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Status expireStatus;
+    private final Duration grace;
+
+    //reservationId 를 만료 시각에 꺼낸다
+    private final HashedTimingWheel<Long> wheel;
+
+    public ReservationExpiryService(ReservationRepository reservationRepository,
+                                    PortfolioRepository portfolioRepository,
+                                    ArtistRepository artistRepository,
+                                    PopularityCounterService popularityCounterService,
+                                    ArtistScheduleService artistScheduleService,
+                                    TransactionTemplate transactionTemplate,
+                                    Clock clock,
+                                    @Value("${meme.reservation.expire-status:COMPLETE}") Status expireStatus,
+                                    @Value("${meme.reservation.expire-grace:PT1H}") Duration grace,
+                                    @Value("${meme.reservation.wheel-tick:PT1M}") Duration tick) {
+        if (expireStatus == Status.EXPECTED)
+            throw new IllegalArgumentException("meme.reservation.expire-status must be COMPLETE or CANCEL");
+
+        this.reservationRepository = reservationRepository;
+        this.portfolioRepository = portfolioRepository;
+        this.artistRepository = artistRepository;
+        this.popularityCounterService = popularityCounterService;
+        this.artistScheduleService = artistScheduleService;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.expireStatus = expireStatus;
+        this.grace = grace;
+        this.wheel = new HashedTimingWheel<>(clock, tick, WHEEL_SIZE);
+    }
+
+    //기동 시 진행 예정인 예약을 모두 휠에 올린다
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Map<Long, PendingReservation> pending = new HashMap<>();
+        for (PendingReservationView view : reservationRepository.findPendingReservations()) {
+            pending.computeIfAbsent(view.getReservationId(), id -> new PendingReservation(view.getReservationDate(), new ArrayList<>()))
+                    .times().add(view.getTime());
+        }
+        pending.forEach((reservationId, reservation) ->
+                wheel.schedule(reservationId, deadlineOf(reservation.date(), reservation.times())));
+        log.info("reservation expiry loaded : {} reservations", pending.size());
+    }
+
+    //새 예약 / 다시 EXPECTED 가 된 예약 등록 (그 사이 상태가 바뀐 예약은 만료 시 제외됨)
+    public void schedule(Reservation reservation) {
+        wheel.schedule(reservation.getReservationId(),
+                deadlineOf(reservation.getReservationDate(), reservation.getReservationDayOfWeekAndTime().values()));
+    }
+
+    @Scheduled(fixedDelayString = "${meme.reservation.wheel-tick:PT1M}")
+    public void expire() {
+        List<Long> expired = wheel.advance();
+        int updated = 0;
+        for (int from = 0; from < expired.size(); from += EXPIRE_BATCH_SIZE) {
+            List<Long> batch = expired.subList(from, Math.min(from + EXPIRE_BATCH_SIZE, expired.size()));
+            try {
+                updated += transactionTemplate.execute(status -> expireBatch(batch));
+            } catch (RuntimeException e) {
+                //락 경합으로 실패한 배치는 다음 tick 에 다시 처리
+                log.warn("reservation expiry failed : {}", e.getMessage());
+                Instant now = clock.instant();
+                batch.forEach(reservationId -> wheel.schedule(reservationId, now));
+            }
+        }
+        if (updated > 0)
+            log.info("reservations expired to {} : {}", expireStatus, updated);
+    }
+
+    private int expireBatch(List<Long> reservationIds) {
+        List<ExpiringReservationView> locked = reservationRepository.lockExpected(reservationIds);
+        if (locked.isEmpty())
+            return 0;
+
+        List<Long> lockedIds = locked.stream().map(ExpiringReservationView::getReservationId).toList();
+        reservationRepository.updateStatus(lockedIds, expireStatus);
+
+        Map<Long, Integer> portfolioDeltas = new HashMap<>();
+        Map<Long, Integer> artistDeltas = new HashMap<>();
+        Map<Long, Long> artistOfPortfolio = new HashMap<>();
+        for (ExpiringReservationView view : locked) {
+            portfolioDeltas.merge(view.getPortfolioId(), 1, Integer::sum);
+            if (view.getArtistId() != null) {
+                artistDeltas.merge(view.getArtistId(), 1, Integer::sum);
+                artistOfPortfolio.put(view.getPortfolioId(), view.getArtistId());
+            }
+        }
+
+        //완료 예약 수 반영
+        if (expireStatus == Status.COMPLETE) {
+            portfolioDeltas.forEach(portfolioRepository::updateReservationCount);
+            artistDeltas.forEach((artistId, delta) -> artistRepository.updateCounters(artistId, 0, 0, delta));
+        }
+        //취소는 ReservationService 수동 취소와 같이 slot 을 반납하고 인기도 예약 수를 되돌린다
+        //(반납해야 취소된 예약을 다시 EXPECTED 로 되돌릴 때 자기 slot 과 충돌하지 않음, 트렌딩 점수는 수동 취소처럼 감쇠에 맡긴다)
+        if (expireStatus == Status.CANCEL) {
+            artistScheduleService.release(reservationRepository.findSlotsByReservationIdIn(lockedIds));
+            portfolioDeltas.forEach((portfolioId, count) ->
+                    popularityCounterService.recordReservation(portfolioId, artistOfPortfolio.get(portfolioId), -count));
+        }
+        return lockedIds.size();
+    }
+
+    //예약의 마지막 slot 이 끝난 시각 + grace (시간 정보가 없으면 다음 날 0시 + grace)
+    private Instant deadlineOf(Date reservationDate, Collection<Times> times) {
+        LocalDateTime end = TimeSlots.toLocalDate(reservationDate).plusDays(1).atStartOfDay();
+        Optional<Times> last = times.stream().filter(Objects::nonNull).max(Comparator.naturalOrder());
+        if (last.isPresent())
+            end = TimeSlots.toLocalDate(reservationDate).atTime(TimeSlots.startOf(last.get())).plus(SLOT_LENGTH);
+        return end.plus(grace).atZone(clock.getZone()).toInstant();
+    }
+
+    private record PendingReservation(Date date, List<Times> times) {
+    }
+}
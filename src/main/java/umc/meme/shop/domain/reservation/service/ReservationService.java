@@ -2,19 +2,34 @@ package umc.meme.shop.domain.reservation.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import umc.meme.shop.domain.artist.entity.Artist;
+import umc.meme.shop.domain.artist.entity.WeeklyAvailability;
 import umc.meme.shop.domain.artist.repository.ArtistRepository;
 import umc.meme.shop.domain.model.entity.Model;
 import umc.meme.shop.domain.model.repository.ModelRepository;
+import umc.meme.shop.domain.popularity.service.PopularityCounterService;
+import umc.meme.shop.domain.popularity.service.TrendingService;
 import umc.meme.shop.domain.portfolio.entity.Portfolio;
 import umc.meme.shop.domain.portfolio.repository.PortfolioRepository;
 import umc.meme.shop.domain.reservation.dto.request.AlterReservationDto;
+import umc.meme.shop.domain.reservation.dto.request.ReservationBatchRequestDto;
 import umc.meme.shop.domain.reservation.dto.request.ReservationRequestDto;
+import umc.meme.shop.domain.reservation.dto.request.ReservationSlotDto;
+import umc.meme.shop.domain.reservation.dto.response.ArtistAvailabilityDto;
 import umc.meme.shop.domain.reservation.dto.response.ArtistLocationDto;
 import umc.meme.shop.domain.reservation.dto.response.ArtistTimeDto;
+import umc.meme.shop.domain.reservation.dto.response.ReservationBatchResultDto;
+import umc.meme.shop.domain.reservation.dto.response.DailyAvailabilityDto;
 import umc.meme.shop.domain.reservation.dto.response.ReservationCompleteDto;
+import umc.meme.shop.domain.reservation.dto.response.ReservationPageDto;
 import umc.meme.shop.domain.reservation.dto.response.ReservationResponseDto;
+import umc.meme.shop.domain.reservation.dto.response.ReservationSlotResultDto;
 import umc.meme.shop.domain.reservation.entity.Reservation;
 import umc.meme.shop.global.enums.Status;
 import umc.meme.shop.domain.reservation.repository.ReservationRepository;
@@ -22,20 +37,33 @@ import umc.meme.shop.global.ErrorStatus;
 import umc.meme.shop.global.enums.DayOfWeek;
 import umc.meme.shop.global.enums.Times;
 import umc.meme.shop.global.exception.GlobalException;
+import umc.meme.shop.global.util.TimeSlots;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ReservationService {
+    private static final int MAX_AVAILABILITY_DAYS = 31;
+    private static final int HISTORY_PAGE_SIZE = 30;
+    private static final int MAX_BATCH_SLOTS = TimeSlots.SLOT_COUNT;
+
     private final ArtistRepository artistRepository;
     private final ModelRepository modelRepository;
     private final PortfolioRepository portfolioRepository;
     private final ReservationRepository reservationRepository;
+    private final ArtistScheduleService artistScheduleService;
+    private final ReservationExpiryService reservationExpiryService;
+    private final PopularityCounterService popularityCounterService;
+    private final TrendingService trendingService;
 
     //아티스트 예약 가능 장소 조회
     public ArtistLocationDto getArtistLocation(Long artistId){
@@ -50,13 +78,37 @@ public class ReservationService {
         Artist artist = artistRepository.findById(artistId)
                 .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_ARTIST));
 
-        Map<DayOfWeek, Times> availableDayOfWeekAndTime = artist.getAvailableDayOfWeekAndTime();
+        Map<DayOfWeek, List<Times>> availableTimes = artist.getWeeklyAvailability().toMap();
 
-        return availableDayOfWeekAndTime.entrySet().stream()
-                .map(entry -> ArtistTimeDto.from(entry.getKey(), entry.getValue()))
+        return availableTimes.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream()
+                        .map(time -> ArtistTimeDto.from(entry.getKey(), time)))
                 .collect(Collectors.toList());
     }
 
+    //아티스트 기간별 예약 가능 시간 조회 (요일별 예약 가능 시간 - 해당 날짜에 예약된 시간)
+    public ArtistAvailabilityDto getArtistAvailability(Long artistId, LocalDate from, int days) {
+        if (days < 1 || days > MAX_AVAILABILITY_DAYS)
+            throw new GlobalException(ErrorStatus.INVALID_AVAILABILITY_RANGE);
+
+        Artist artist = artistRepository.findById(artistId)
+                .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_ARTIST));
+
+        LocalDate to = from.plusDays(days - 1);
+        WeeklyAvailability availability = artist.getWeeklyAvailability();
+        Map<LocalDate, Long> bookedSlots = artistScheduleService.bookedSlots(artistId, from, to);
+
+        List<DailyAvailabilityDto> dailyList = new ArrayList<>(days);
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            DayOfWeek dayOfWeek = TimeSlots.dayOfWeek(date);
+            //예약 가능 시간을 설정하지 않은 아티스트는 모든 시간 가능
+            long available = availability.isEmpty() ? TimeSlots.ALL : availability.slots(dayOfWeek);
+            long free = available & ~bookedSlots.getOrDefault(date, 0L);
+            dailyList.add(DailyAvailabilityDto.of(date, dayOfWeek, free));
+        }
+        return ArtistAvailabilityDto.from(artistId, from, to, dailyList);
+    }
+
     //예약하기
     @Transactional
     public ReservationCompleteDto createReservation(ReservationRequestDto reservationDto){
@@ -71,23 +123,133 @@ public class ReservationService {
             throw new GlobalException(ErrorStatus.NOT_ALLOW_OVER_ONE_RESERVATION);
         }
 
-        //예약 중복 처리
-        List<Reservation> reservationList = reservationRepository.findByModelAndPortfolio(model, portfolio);
-        for(int i=0; i<reservationList.size(); i++){
-            Reservation reservation = reservationList.get(i);
-            if(reservation.getReservationDayOfWeekAndTime().equals(reservationDto.getReservationDayOfWeekAndTime())
-                && checkDuplicateReservation(reservation.getReservationDate(), reservationDto.getReservationDate())){
-                throw new GlobalException(ErrorStatus.NOT_ALLOW_DUPLICATED_RESERVATION);
-            }
-        }
+        Artist artist = portfolio.getArtist();
+        LocalDate reservationDate = TimeSlots.toLocalDate(reservationDto.getReservationDate());
+        long mask = TimeSlots.mask(reservationDto.getReservationDayOfWeekAndTime().values());
+
+        //아티스트 예약 가능 시간 확인 (예약 가능 시간을 설정하지 않은 아티스트는 제한 없음)
+        WeeklyAvailability availability = artist.getWeeklyAvailability();
+        if (!availability.isEmpty() && !availability.isAvailable(TimeSlots.dayOfWeek(reservationDate), mask))
+            throw new GlobalException(ErrorStatus.NOT_AVAILABLE_RESERVATION_TIME);
+
+        //예약 중복 처리 : 아티스트의 해당 날짜 모든 예약과 비교 후 slot 점유
+        artistScheduleService.book(artist.getUserId(), reservationDate, mask);
 
         Reservation reservation = Reservation.from(model, portfolio, reservationDto);
         model.updateReservationList(reservation);
         reservationRepository.save(reservation);
+        reservationExpiryService.schedule(reservation);
+        popularityCounterService.recordReservation(portfolio.getPortfolioId(), artist.getUserId(), 1);
+        trendingService.recordReservation(portfolio.getPortfolioId(), 1);
 
         return ReservationCompleteDto.from(portfolio, reservation);
     }
 
+    //여러 시간 한번에 예약하기 (모든 slot 을 예약하거나 하나도 예약하지 않고, slot 별 결과를 반환)
+    @Transactional
+    public ReservationBatchResultDto createReservations(ReservationBatchRequestDto batchDto){
+        List<ReservationSlotDto> slotList = batchDto.getSlotList();
+        if (slotList == null || slotList.isEmpty() || slotList.size() > MAX_BATCH_SLOTS)
+            throw new GlobalException(ErrorStatus.INVALID_RESERVATION_BATCH);
+
+        Model model = modelRepository.findById(batchDto.getModelId())
+                .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_MODEL));
+
+        Portfolio portfolio = portfolioRepository.findById(batchDto.getPortfolioId())
+                .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_PORTFOLIO));
+
+        Artist artist = portfolio.getArtist();
+        Long artistId = artist.getUserId();
+        WeeklyAvailability availability = artist.getWeeklyAvailability();
+
+        //요청 날짜 범위의 예약된 slot 을 한 번에 읽는다 (트랜잭션 스냅샷 값이라 점유 단계의 힌트로만 쓴다)
+        List<LocalDate> dateList = slotList.stream()
+                .map(slot -> TimeSlots.toLocalDate(slot.getReservationDate()))
+                .toList();
+        Map<LocalDate, Long> bookedSlots = artistScheduleService.bookedSlots(artistId,
+                Collections.min(dateList), Collections.max(dateList));
+
+        //slot 별 검증 (요청 내 중복, 예약 가능 시간) 후 날짜별 비트마스크로 모은다
+        ErrorStatus[] rejected = new ErrorStatus[slotList.size()];
+        Map<LocalDate, Long> masks = new TreeMap<>();
+        boolean valid = true;
+        for (int i = 0; i < slotList.size(); i++) {
+            ReservationSlotDto slot = slotList.get(i);
+            LocalDate date = dateList.get(i);
+            long mask = TimeSlots.mask(slot.getTime());
+
+            if (TimeSlots.overlaps(masks.getOrDefault(date, 0L), mask))
+                rejected[i] = ErrorStatus.DUPLICATED_SLOT_IN_REQUEST;
+            else if (!availability.isEmpty() && !availability.isAvailable(TimeSlots.dayOfWeek(date), mask))
+                rejected[i] = ErrorStatus.NOT_AVAILABLE_RESERVATION_TIME;
+
+            valid &= rejected[i] == null;
+            masks.merge(date, mask, (a, b) -> a | b);
+        }
+        if (!valid)
+            return rejectBatch(portfolio, batchDto, rejected);
+
+        //날짜 순으로 점유해 같은 아티스트에 대한 배치 요청끼리 락 순서를 맞춘다
+        //충돌 여부는 최신 비트맵(행 락)으로 정하고, 충돌한 뒤에도 남은 날짜를 확인해 실제로 겹친 slot 만 표시한다
+        boolean conflicted = false;
+        for (Map.Entry<LocalDate, Long> entry : masks.entrySet()) {
+            LocalDate date = entry.getKey();
+            long mask = entry.getValue();
+            if (!conflicted && !TimeSlots.overlaps(bookedSlots.getOrDefault(date, 0L), mask)
+                    && artistScheduleService.tryBook(artistId, date, mask))
+                continue;
+
+            //스냅샷/캐시로만 겹쳐 보였고 실제로는 비어 있으면 행 락을 잡은 채로 다시 점유한다
+            long booked = artistScheduleService.lockBookedSlots(artistId, date);
+            if (!TimeSlots.overlaps(booked, mask) && (conflicted || artistScheduleService.tryBook(artistId, date, mask)))
+                continue;
+
+            conflicted = true;
+            for (int i = 0; i < slotList.size(); i++) {
+                if (dateList.get(i).equals(date) && TimeSlots.overlaps(booked, TimeSlots.mask(slotList.get(i).getTime())))
+                    rejected[i] = ErrorStatus.NOT_ALLOW_DUPLICATED_RESERVATION;
+            }
+        }
+        //앞서 점유한 날짜까지 모두 되돌린다
+        if (conflicted) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return rejectBatch(portfolio, batchDto, rejected);
+        }
+
+        List<Reservation> reservationList = slotList.stream()
+                .map(slot -> Reservation.of(model, portfolio, slot.getReservationDate(),
+                        TimeSlots.dayOfWeek(TimeSlots.toLocalDate(slot.getReservationDate())), slot.getTime(), batchDto.getLocation()))
+                .collect(Collectors.toList());
+        reservationList.forEach(model::updateReservationList);
+        //hibernate.jdbc.batch_size 단위로 묶어서 insert
+        reservationRepository.saveAll(reservationList);
+        reservationList.forEach(reservationExpiryService::schedule);
+        popularityCounterService.recordReservation(portfolio.getPortfolioId(), artistId, reservationList.size());
+        trendingService.recordReservation(portfolio.getPortfolioId(), reservationList.size());
+
+        List<ReservationSlotResultDto> resultList = reservationList.stream()
+                .map(reservation -> {
+                    Map.Entry<DayOfWeek, Times> time = reservation.getReservationDayOfWeekAndTime().entrySet().iterator().next();
+                    return ReservationSlotResultDto.booked(reservation.getReservationDate(), time.getKey(), time.getValue(),
+                            reservation.getReservationId());
+                })
+                .collect(Collectors.toList());
+        return ReservationBatchResultDto.from(portfolio, batchDto.getLocation(), true, resultList);
+    }
+
+    //예약하지 않은 배치 요청의 slot 별 결과 (직접 실패한 slot 외에는 RESERVATION_BATCH_ABORTED)
+    private ReservationBatchResultDto rejectBatch(Portfolio portfolio, ReservationBatchRequestDto batchDto, ErrorStatus[] rejected){
+        List<ReservationSlotDto> slotList = batchDto.getSlotList();
+        List<ReservationSlotResultDto> resultList = new ArrayList<>(slotList.size());
+        for (int i = 0; i < slotList.size(); i++) {
+            ReservationSlotDto slot = slotList.get(i);
+            resultList.add(ReservationSlotResultDto.rejected(slot.getReservationDate(),
+                    TimeSlots.dayOfWeek(TimeSlots.toLocalDate(slot.getReservationDate())), slot.getTime(),
+                    rejected[i] != null ? rejected[i] : ErrorStatus.RESERVATION_BATCH_ABORTED));
+        }
+        return ReservationBatchResultDto.from(portfolio, batchDto.getLocation(), false, resultList);
+    }
+
     //예약하기 상태 변경
     @Transactional
     public void updateReservationStatus(AlterReservationDto reservationDto){
@@ -102,7 +264,54 @@ public class ReservationService {
         if(reservation.getStatus() == Status.CANCEL && status == Status.COMPLETE)
             throw new GlobalException(ErrorStatus.INVALID_CHANGE_COMPLETE);
 
+        //완료 예약 수 반영 (COMPLETE 진입 +1, COMPLETE 이탈 -1)
+        int delta = 0;
+        if (status == Status.COMPLETE)
+            delta = 1;
+        else if (status != null && reservation.getStatus() == Status.COMPLETE)
+            delta = -1;
+
+        //취소 시 slot 반납, 취소된 예약을 되돌리면 다시 점유
+        if (status == Status.CANCEL)
+            artistScheduleService.release(reservation);
+        else if (status != null && reservation.getStatus() == Status.CANCEL)
+            artistScheduleService.book(reservation);
+
+        //인기도 예약 수 (취소 -1, 취소 복구 +1)
+        if (status == Status.CANCEL || (status != null && reservation.getStatus() == Status.CANCEL))
+            popularityCounterService.recordReservation(reservation.getPortfolio().getPortfolioId(),
+                    reservation.getPortfolio().getArtist().getUserId(), status == Status.CANCEL ? -1 : 1);
+
+        //취소된 예약을 되돌리면 자동 만료 대상으로 다시 등록
+        if (status == Status.EXPECTED)
+            reservationExpiryService.schedule(reservation);
+
         reservation.updateReservation(status);
+        if (delta != 0) {
+            Portfolio portfolio = reservation.getPortfolio();
+            portfolioRepository.updateReservationCount(portfolio.getPortfolioId(), delta);
+            artistRepository.updateCounters(portfolio.getArtist().getUserId(), 0, 0, delta);
+        }
+    }
+
+    //아티스트 예약 내역 조회 (페이징, 상태/기간 필터)
+    public ReservationPageDto getArtistReservationHistory(Long artistId, Status status, LocalDate from, LocalDate to, int page){
+        if (!artistRepository.existsById(artistId))
+            throw new GlobalException(ErrorStatus.NOT_EXIST_ARTIST);
+
+        Page<Reservation> reservationPage = reservationRepository.findArtistHistory(
+                artistId, status, toDate(from), toDate(to), historyPageRequest(page));
+        return ReservationPageDto.from(reservationPage);
+    }
+
+    //모델 예약 내역 조회 (페이징, 상태/기간 필터)
+    public ReservationPageDto getModelReservationHistory(Long modelId, Status status, LocalDate from, LocalDate to, int page){
+        if (!modelRepository.existsById(modelId))
+            throw new GlobalException(ErrorStatus.NOT_EXIST_MODEL);
+
+        Page<Reservation> reservationPage = reservationRepository.findModelHistory(
+                modelId, status, toDate(from), toDate(to), historyPageRequest(page));
+        return ReservationPageDto.from(reservationPage);
     }
 
     //아티스트 예약 조회
@@ -116,26 +325,28 @@ public class ReservationService {
                 .collect(Collectors.toList());
     }
 
+    //예약 날짜 최신 순
+    private Pageable historyPageRequest(int page){
+        return PageRequest.of(page, HISTORY_PAGE_SIZE,
+                Sort.by("reservationDate").descending().and(Sort.by("reservationId").descending()));
+    }
+
+    //기간 필터의 날짜 -> 해당 날짜 0시
+    private Date toDate(LocalDate date){
+        if (date == null)
+            return null;
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
     //모델 예약 조회
     public List<ReservationResponseDto> getModelReservation(Long modelId) {
         Model model = modelRepository.findById(modelId)
                 .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_MODEL));
 
-        List<Reservation> reservationList = model.getReservationList();
+        List<Reservation> reservationList = reservationRepository.findByModel(model);
         return reservationList.stream()
                 .map(ReservationResponseDto::from)
                 .collect(Collectors.toList());
     }
 
-    private boolean checkDuplicateReservation(Date date1, Date date2){
-        //두 date가 동일하면 false
-        if(date1.getYear() == date2.getYear()){
-            if(date1.getMonth() == date2.getMonth())
-                if(date1.getDay() == date2.getDay())
-                    return true;
-        }
-        return false;
-    }
-
-
 }
@@ -1,6 +1,8 @@
 package umc.meme.shop.domain.review.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -18,12 +20,19 @@ import umc.meme.shop.global.response.ApiResponse;
 public class ReviewController {
     private final ReviewService reviewService;
 
-    @Operation(summary = "리뷰 리스트 조회", description = "리뷰 리스트를 조회하는 API입니다.")
+    @Operation(summary = "리뷰 리스트 조회", description = "리뷰 리스트를 조회하는 API입니다. cursor 를 전달하면(첫 페이지는 빈 값) 커서 기반으로 조회합니다.")
+    @Parameters({
+            @Parameter(name = "sort", description = "recent(최신 순), high(별점 높은 순), low(별점 낮은 순), photo(사진 리뷰만, 최신 순)")
+    })
     @GetMapping("/{portfolioId}")
     public ApiResponse getReviewList(@PathVariable Long portfolioId,
-                                     @RequestParam(value = "page", defaultValue = "0", required = false) int page
+                                     @RequestParam(value = "page", defaultValue = "0", required = false) int page,
+                                     @RequestParam(value = "sort", defaultValue = "recent") String sort,
+                                     @RequestParam(value = "cursor", required = false) String cursor
     ){
-        return ApiResponse.SuccessResponse(SuccessStatus.REVIEW_GET, reviewService.getReviewList(portfolioId, page));
+        if(cursor != null)
+            return ApiResponse.SuccessResponse(SuccessStatus.REVIEW_GET, reviewService.getReviewListByCursor(portfolioId, cursor, sort));
+        return ApiResponse.SuccessResponse(SuccessStatus.REVIEW_GET, reviewService.getReviewList(portfolioId, page, sort));
     }
 
     @Operation(summary = "리뷰 작성", description = "리뷰를 작성하는 API입니다.")
@@ -33,10 +42,11 @@ public class ReviewController {
         return ApiResponse.SuccessResponse(SuccessStatus.REVIEW_CREATE);
     }
 
-    @Operation(summary = "내가 쓴 리뷰 조회", description = "본인이 쓴 리뷰를 조회하는 API입니다.")
+    @Operation(summary = "내가 쓴 리뷰 조회", description = "본인이 쓴 리뷰를 최신 순으로 조회하는 API입니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
     @GetMapping("/me/{modelId}")
-    public ApiResponse getMyReview(@PathVariable Long modelId){
-        return ApiResponse.SuccessResponse(SuccessStatus.REVIEW_GET, reviewService.getMyReview(modelId));
+    public ApiResponse getMyReview(@PathVariable Long modelId,
+                                   @RequestParam(value = "cursor", required = false) String cursor){
+        return ApiResponse.SuccessResponse(SuccessStatus.REVIEW_GET, reviewService.getMyReview(modelId, cursor));
     }
 
     @Operation(summary = "리뷰 삭제", description = "모델이 작성한 리뷰를 삭제하는 API입니다.")
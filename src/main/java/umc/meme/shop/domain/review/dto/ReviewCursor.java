@@ -0,0 +1,51 @@
+package umc.meme.shop.domain.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import umc.meme.shop.domain.review.dto.response.ReviewResponseDto;
+import umc.meme.shop.global.ErrorStatus;
+import umc.meme.shop.global.exception.GlobalException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 리뷰 커서(keyset) 페이지네이션용 커서
+ * 마지막으로 내려준 리뷰의 (별점, reviewId) 를 담아 base64url 토큰으로 주고받는다.
+ * 최신 순(recent, photo)은 reviewId 가 작성 순서와 같으므로 reviewId 만으로 seek 한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewCursor {
+    private static final String DELIMITER = "|";
+
+    private String sortBy;
+    private int star;
+    private Long reviewId;
+
+    public static ReviewCursor of(String sortBy, ReviewResponseDto last) {
+        return new ReviewCursor(sortBy, last.getStar(), last.getReviewId());
+    }
+
+    //빈 문자열이면 첫 페이지
+    public static ReviewCursor decode(String token, String sortBy) {
+        if (token == null || token.isBlank())
+            return null;
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER, -1);
+            if (parts.length != 3 || !parts[0].equals(sortBy))
+                throw new GlobalException(ErrorStatus.INVALID_CURSOR);
+
+            return new ReviewCursor(parts[0], Integer.parseInt(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new GlobalException(ErrorStatus.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, sortBy, String.valueOf(star), String.valueOf(reviewId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,37 @@
+package umc.meme.shop.domain.review.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import umc.meme.shop.domain.review.dto.ReviewCursor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReviewCursorPageDto {
+    private List<ReviewResponseDto> content;
+    private Map<Integer, Integer> starStatus; //포트폴리오 전체 별점 현황 (내가 쓴 리뷰 조회 시 null)
+    private int pageSize; //페이지 크기
+    private boolean hasNext; //다음 페이지 존재 여부
+    private String nextCursor; //다음 페이지 요청 시 전달할 커서
+
+    //pageSize + 1 개를 조회해서 다음 페이지 존재 여부를 판단
+    public static ReviewCursorPageDto from(List<ReviewResponseDto> reviewDtoList, int pageSize, String sortBy,
+                                           Map<Integer, Integer> starStatus){
+        boolean hasNext = reviewDtoList.size() > pageSize;
+        List<ReviewResponseDto> content = hasNext ? reviewDtoList.subList(0, pageSize) : reviewDtoList;
+
+        return ReviewCursorPageDto.builder()
+                .content(content)
+                .starStatus(starStatus)
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? ReviewCursor.of(sortBy, content.get(content.size() - 1)).encode() : null)
+                .build();
+    }
+}
@@ -7,7 +7,6 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
 import umc.meme.shop.domain.review.entity.Review;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -23,28 +22,19 @@ public class ReviewListPageDto {
     private int totalNumber; //전체 메이크업 개수
     private int totalPage; //전체 페이지 개수
 
-    public static ReviewListPageDto from(Page<Review> page){
+    //starStatus: 포트폴리오 전체 별점 현황 (별점 -> 리뷰 수)
+    public static ReviewListPageDto from(Page<Review> page, Map<Integer, Integer> starStatus){
         List<ReviewResponseDto> content = page.stream()
                 .map(ReviewResponseDto::from)
                 .toList();
 
         return ReviewListPageDto.builder()
                 .content(content)
-                .starStatus(setStarStatus(page.getContent())) //별점 현황
+                .starStatus(starStatus) //별점 현황
                 .pageSize(page.getSize())
                 .currentPage(page.getNumber())
                 .totalNumber(page.getNumberOfElements())
                 .totalPage(page.getTotalPages())
                 .build();
     }
-
-    private static Map<Integer, Integer> setStarStatus(List<Review> list){
-
-        Map<Integer, Integer> starStatus = new HashMap<>(Map.of(5, 0, 4, 0, 3, 0, 2, 0, 1, 0));
-        for (Review review : list) {
-            int star = review.getStar();
-            starStatus.put(star, starStatus.get(star) + 1);
-        }
-        return starStatus;
-    }
 }
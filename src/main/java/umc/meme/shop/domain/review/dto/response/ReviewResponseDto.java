@@ -13,6 +13,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ReviewResponseDto {
+    private Long reviewId;
     private String modelNickName;
     private int star;
     private String comment;
@@ -25,6 +26,7 @@ public class ReviewResponseDto {
                 .toList();
 
         return ReviewResponseDto.builder()
+                .reviewId(review.getReviewId())
                 .modelNickName(review.getModel().getNickname())
                 .star(review.getStar())
                 .comment(review.getComment())
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import umc.meme.shop.domain.common.BaseEntity;
+import umc.meme.shop.global.util.SnowflakeId;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -13,7 +14,7 @@ import umc.meme.shop.domain.common.BaseEntity;
 @Getter @Setter
 public class ReviewImg extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long reviewImgId;
 
     @ManyToOne
@@ -9,6 +9,6 @@ import umc.meme.shop.domain.review.entity.Review;
 
 import java.util.List;
 
-public interface ReviewRepository extends JpaRepository<Review, Long> {
+public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewRepositoryCustom {
     List<Review> findByModel(Model model);
 }
@@ -0,0 +1,16 @@
+package umc.meme.shop.domain.review.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import umc.meme.shop.domain.review.dto.ReviewCursor;
+import umc.meme.shop.domain.review.entity.Review;
+
+import java.util.List;
+
+public interface ReviewRepositoryCustom {
+    //포트폴리오 리뷰 페이지 (sortBy : recent, high, low, photo)
+    Page<Review> findPage(Long portfolioId, String sortBy, Pageable pageable);
+
+    //커서 이후의 리뷰를 limit 개 조회 (OFFSET, COUNT 없음 / portfolioId, modelId 는 null 이면 조건 없음)
+    List<Review> findPageAfter(Long portfolioId, Long modelId, String sortBy, ReviewCursor cursor, int limit);
+}
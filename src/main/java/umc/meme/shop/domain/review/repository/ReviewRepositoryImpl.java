@@ -0,0 +1,100 @@
+package umc.meme.shop.domain.review.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import umc.meme.shop.domain.review.dto.ReviewCursor;
+import umc.meme.shop.domain.review.entity.Review;
+import umc.meme.shop.global.ErrorStatus;
+import umc.meme.shop.global.exception.GlobalException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
+    //(star, reviewId) seek 조건 (별점 정렬 방향만 다르고 같은 별점 안에서는 최신 순)
+    private static final String STAR_DESC_SEEK = "(r.star < :star OR (r.star = :star AND r.reviewId < :reviewId))";
+    private static final String STAR_ASC_SEEK = "(r.star > :star OR (r.star = :star AND r.reviewId < :reviewId))";
+    private static final String HAS_IMG = "EXISTS (SELECT i FROM ReviewImg i WHERE i.review = r)";
+
+    private final EntityManager em;
+
+    @Override
+    public Page<Review> findPage(Long portfolioId, String sortBy, Pageable pageable) {
+        Map<String, Object> params = new HashMap<>();
+        String where = where(portfolioId, null, sortBy, params);
+
+        //작성자 닉네임은 fetch join, 리뷰 이미지는 @BatchSize 로 페이지 단위 IN 조회
+        TypedQuery<Review> contentQuery = em.createQuery(
+                "SELECT r FROM Review r JOIN FETCH r.model" + where + " ORDER BY " + orderBy(sortBy), Review.class);
+        TypedQuery<Long> countQuery = em.createQuery("SELECT COUNT(r) FROM Review r" + where, Long.class);
+        params.forEach((name, value) -> {
+            contentQuery.setParameter(name, value);
+            countQuery.setParameter(name, value);
+        });
+
+        List<Review> content = contentQuery
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return new PageImpl<>(content, pageable, countQuery.getSingleResult());
+    }
+
+    @Override
+    public List<Review> findPageAfter(Long portfolioId, Long modelId, String sortBy, ReviewCursor cursor, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT r FROM Review r JOIN FETCH r.model")
+                .append(where(portfolioId, modelId, sortBy, params));
+
+        if (cursor != null) {
+            jpql.append(" AND ").append(seekPredicate(sortBy));
+            params.put("reviewId", cursor.getReviewId());
+            if (sortBy.equals("high") || sortBy.equals("low"))
+                params.put("star", cursor.getStar());
+        }
+        jpql.append(" ORDER BY ").append(orderBy(sortBy));
+
+        TypedQuery<Review> typedQuery = em.createQuery(jpql.toString(), Review.class);
+        params.forEach(typedQuery::setParameter);
+        return typedQuery.setMaxResults(limit).getResultList();
+    }
+
+    private String where(Long portfolioId, Long modelId, String sortBy, Map<String, Object> params) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (portfolioId != null) {
+            where.append(" AND r.portfolio.portfolioId = :portfolioId");
+            params.put("portfolioId", portfolioId);
+        }
+        if (modelId != null) {
+            where.append(" AND r.model.userId = :modelId");
+            params.put("modelId", modelId);
+        }
+        if (sortBy.equals("photo"))
+            where.append(" AND ").append(HAS_IMG);
+        return where.toString();
+    }
+
+    //정렬 튜플 기준으로 커서보다 뒤에 있는 행
+    private String seekPredicate(String sortBy) {
+        return switch (sortBy) {
+            case "recent", "photo" -> "r.reviewId < :reviewId";
+            case "high" -> STAR_DESC_SEEK;
+            case "low" -> STAR_ASC_SEEK;
+            default -> throw new GlobalException(ErrorStatus.INVALID_SORT_CRITERIA);
+        };
+    }
+
+    private String orderBy(String sortBy) {
+        return switch (sortBy) {
+            case "recent", "photo" -> "r.reviewId DESC";
+            case "high" -> "r.star DESC, r.reviewId DESC";
+            case "low" -> "r.star ASC, r.reviewId DESC";
+            default -> throw new GlobalException(ErrorStatus.INVALID_SORT_CRITERIA);
+        };
+    }
+}
@@ -3,19 +3,22 @@ package umc.meme.shop.domain.review.service;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import umc.meme.shop.domain.model.entity.Model;
 import umc.meme.shop.domain.model.repository.ModelRepository;
+import umc.meme.shop.domain.popularity.service.TrendingService;
+import umc.meme.shop.domain.portfolio.dto.StarCounts;
 import umc.meme.shop.domain.portfolio.entity.Portfolio;
 import umc.meme.shop.domain.portfolio.repository.PortfolioRepository;
+import umc.meme.shop.domain.portfolio.service.PortfolioCounterService;
 import umc.meme.shop.domain.reservation.entity.Reservation;
 import umc.meme.shop.global.enums.Status;
 import umc.meme.shop.domain.reservation.repository.ReservationRepository;
+import umc.meme.shop.domain.review.dto.ReviewCursor;
 import umc.meme.shop.domain.review.dto.request.DeleteReviewDto;
 import umc.meme.shop.domain.review.dto.request.ReviewDto;
+import umc.meme.shop.domain.review.dto.response.ReviewCursorPageDto;
 import umc.meme.shop.domain.review.dto.response.ReviewListPageDto;
 import umc.meme.shop.domain.review.dto.response.ReviewResponseDto;
 import umc.meme.shop.domain.review.entity.Review;
@@ -27,15 +30,21 @@ import umc.meme.shop.global.exception.GlobalException;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
+    private static final int PAGE_SIZE = 30;
+    private static final String MY_REVIEW_SORT = "recent";
+
     private final ModelRepository modelRepository;
     private final ReviewRepository reviewRepository;
     private final ReservationRepository reservationRepository;
     private final PortfolioRepository portfolioRepository;
+    private final PortfolioCounterService portfolioCounterService;
+    private final TrendingService trendingService;
 
     //리뷰 작성
     @Transactional
@@ -53,6 +62,10 @@ public class ReviewService {
         if (reservation.getStatus() != Status.COMPLETE)
             throw new GlobalException(ErrorStatus.INVALID_REVIEW_REQUEST);
 
+        // 별점 범위 (별점별 리뷰 수 집계 대상)
+        if (reviewDto.getStar() < 1 || reviewDto.getStar() > 5)
+            throw new GlobalException(ErrorStatus.INVALID_STAR);
+
         Portfolio portfolio = reservation.getPortfolio();
 
         List<ReviewImg> reviewImgList = reviewDto.getReviewImgSrc().stream()
@@ -63,35 +76,55 @@ public class ReviewService {
 
         reviewImgList.forEach(review::addReviewImg);
 
-        portfolio.updateReviewList(review);
         model.updateReviewList(review);
 
+        //review insert(FK 공유 락)보다 샤드 증감을 먼저 반영해 fold 와의 락 순서를 맞춘다
+        portfolioCounterService.addReview(portfolio.getPortfolioId(), review.getStar());
         reviewRepository.save(review);
         reservation.updateIsReview(true);
+        trendingService.recordReview(portfolio.getPortfolioId());
     }
 
-    //내가 쓴 리뷰 조회
-    public List<ReviewResponseDto> getMyReview(Long modelId){
-        Model model = modelRepository.findById(modelId)
-                .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_MODEL));
+    //내가 쓴 리뷰 조회 (최신 순, 커서 기반)
+    public ReviewCursorPageDto getMyReview(Long modelId, String cursor){
+        if (!modelRepository.existsById(modelId))
+            throw new GlobalException(ErrorStatus.NOT_EXIST_MODEL);
 
-        //리뷰 리스트 조회
-        List<Review> reviewList = reviewRepository.findByModel(model);
-        return reviewList.stream()
+        ReviewCursor after = ReviewCursor.decode(cursor, MY_REVIEW_SORT);
+        List<ReviewResponseDto> reviewList = reviewRepository.findPageAfter(null, modelId, MY_REVIEW_SORT, after, PAGE_SIZE + 1)
+                .stream()
                 .map(ReviewResponseDto::from)
                 .toList();
+        return ReviewCursorPageDto.from(reviewList, PAGE_SIZE, MY_REVIEW_SORT, null);
     }
 
-    //리뷰 리스트 조회
-    public ReviewListPageDto getReviewList(Long portfolioId, int page) {
+    //리뷰 리스트 조회 (DB 페이징, sortBy : recent, high, low, photo)
+    public ReviewListPageDto getReviewList(Long portfolioId, int page, String sortBy) {
         Portfolio portfolio = portfolioRepository.findById(portfolioId)
                 .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_PORTFOLIO));
 
-        // list를 page로 변환
-        List<Review> reviewList = portfolio.getReviewList();
-        Page<Review> reviewPage = getPage(page, reviewList);
+        Page<Review> reviewPage = reviewRepository.findPage(portfolioId, sortBy, PageRequest.of(page, PAGE_SIZE));
+        return ReviewListPageDto.from(reviewPage, getStarStatus(portfolio));
+    }
+
+    //리뷰 리스트 조회 (커서 기반)
+    public ReviewCursorPageDto getReviewListByCursor(Long portfolioId, String cursor, String sortBy) {
+        ReviewCursor after = ReviewCursor.decode(cursor, sortBy);
+        Portfolio portfolio = portfolioRepository.findById(portfolioId)
+                .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_PORTFOLIO));
 
-        return ReviewListPageDto.from(reviewPage);
+        List<ReviewResponseDto> reviewList = reviewRepository.findPageAfter(portfolioId, null, sortBy, after, PAGE_SIZE + 1)
+                .stream()
+                .map(ReviewResponseDto::from)
+                .toList();
+        return ReviewCursorPageDto.from(reviewList, PAGE_SIZE, sortBy, getStarStatus(portfolio));
+    }
+
+    //별점 현황은 페이지가 아닌 포트폴리오 전체 기준 (집계 컬럼 + 아직 합산되지 않은 증감분)
+    private Map<Integer, Integer> getStarStatus(Portfolio portfolio) {
+        StarCounts starCounts = portfolio.getStarCounts()
+                .plus(portfolioCounterService.pending(portfolio.getPortfolioId()).starCounts());
+        return starCounts.toMap();
     }
 
     //리뷰 삭제
@@ -101,20 +134,10 @@ public class ReviewService {
                 .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_MODEL));
         Review review = reviewRepository.findById(reviewDto.getReviewId())
                 .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_REVIEW));
-        if(!review.getModel().equals(model))
+        if(!review.getModel().getUserId().equals(model.getUserId()))
             throw new GlobalException(ErrorStatus.INVALID_MODEL_FOR_REVIEW);
 
+        portfolioCounterService.removeReview(review.getPortfolio().getPortfolioId(), review.getStar());
         reviewRepository.delete(review);
     }
-
-    private Page<Review> getPage(int page, List<Review> list){
-        Pageable pageable = PageRequest.of(page, 30);
-
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), list.size());
-
-        //list를 page로 변환
-        return new PageImpl<>(list.subList(start, end),
-                pageable, list.size());
-    }
 }
@@ -18,38 +18,54 @@ public class SearchController {
 
     private final SearchService searchService;
 
-    @Operation(summary = "메이크업 검색", description = "메이크업을 검색/최근 검색어로 검색하는 API입니다.")
+    @Operation(summary = "메이크업 검색", description = "메이크업을 검색/최근 검색어로 검색하는 API입니다. cursor 를 전달하면(첫 페이지는 빈 값) 커서 기반으로 조회합니다. modelId 를 전달하면 관심 메이크업 여부(isFavorite)를 함께 반환합니다.")
     @GetMapping("")
     public ApiResponse search(@RequestParam(value = "query") String query,
                               @RequestParam(value = "page", defaultValue = "0", required = false) int page,
-                              @RequestParam(value = "sort", defaultValue = "desc") String sort){
-        return ApiResponse.SuccessResponse(SuccessStatus.SEARCH_GET, searchService.search(query, page, sort));
+                              @RequestParam(value = "sort", defaultValue = "desc") String sort,
+                              @RequestParam(value = "cursor", required = false) String cursor,
+                              @RequestParam(value = "modelId", required = false) Long modelId){
+        if(cursor != null)
+            return ApiResponse.SuccessResponse(SuccessStatus.SEARCH_GET, searchService.searchByCursor(query, cursor, sort, modelId));
+        return ApiResponse.SuccessResponse(SuccessStatus.SEARCH_GET, searchService.search(query, page, sort, modelId));
     }
 
-    @Operation(summary = "메이크업 검색 - 관심 아티스트", description = "관심 아티스트로 검색하는 API입니다.")
+    @Operation(summary = "메이크업 검색 - 관심 아티스트", description = "관심 아티스트로 검색하는 API입니다. cursor 를 전달하면(첫 페이지는 빈 값) 커서 기반으로 조회합니다. modelId 를 전달하면 관심 메이크업 여부(isFavorite)를 함께 반환합니다.")
     @GetMapping("/artist")
     public ApiResponse searchArtist(@RequestParam(value = "artistId") Long artistId,
                                     @RequestParam(value = "page", defaultValue = "0", required = false) int page,
-                                    @RequestParam(value = "sort", defaultValue = "desc") String sort
+                                    @RequestParam(value = "sort", defaultValue = "desc") String sort,
+                                    @RequestParam(value = "cursor", required = false) String cursor,
+                                    @RequestParam(value = "modelId", required = false) Long modelId
     ){
-        return ApiResponse.SuccessResponse(SuccessStatus.SEARCH_GET, searchService.searchArtist(artistId, page, sort));
+        if(cursor != null)
+            return ApiResponse.SuccessResponse(SuccessStatus.SEARCH_GET, searchService.searchArtistByCursor(artistId, cursor, sort, modelId));
+        return ApiResponse.SuccessResponse(SuccessStatus.SEARCH_GET, searchService.searchArtist(artistId, page, sort, modelId));
     }
 
-    @Operation(summary = "메이크업 검색 - 카테고리", description = "메이크업 카테고리로 검색하는 API입니다.")
+    @Operation(summary = "메이크업 검색 - 카테고리", description = "메이크업 카테고리로 검색하는 API입니다. cursor 를 전달하면(첫 페이지는 빈 값) 커서 기반으로 조회합니다. modelId 를 전달하면 관심 메이크업 여부(isFavorite)를 함께 반환합니다.")
     @GetMapping("/category")
     public ApiResponse searchCategory(@RequestParam(value = "category") Category category,
                                       @RequestParam(value = "page", defaultValue = "0", required = false) int page,
-                                      @RequestParam(value = "sort", defaultValue = "desc") String sort
+                                      @RequestParam(value = "sort", defaultValue = "desc") String sort,
+                                      @RequestParam(value = "cursor", required = false) String cursor,
+                                      @RequestParam(value = "modelId", required = false) Long modelId
     ){
-        return ApiResponse.SuccessResponse(SuccessStatus.SEARCH_GET, searchService.searchCategory(category, page, sort));
+        if(cursor != null)
+            return ApiResponse.SuccessResponse(SuccessStatus.SEARCH_GET, searchService.searchCategoryByCursor(category, cursor, sort, modelId));
+        return ApiResponse.SuccessResponse(SuccessStatus.SEARCH_GET, searchService.searchCategory(category, page, sort, modelId));
     }
 
-    @Operation(summary = "메이크업 검색 - 전체", description = "메이크업 전체를 검색하는 API입니다.")
+    @Operation(summary = "메이크업 검색 - 전체", description = "메이크업 전체를 검색하는 API입니다. cursor 를 전달하면(첫 페이지는 빈 값) 커서 기반으로 조회합니다. modelId 를 전달하면 관심 메이크업 여부(isFavorite)를 함께 반환합니다.")
     @GetMapping("/all")
     public ApiResponse searchAll( @RequestParam(value = "page", defaultValue = "0", required = false) int page,
-                                  @RequestParam(value = "sort", defaultValue = "desc") String sort
+                                  @RequestParam(value = "sort", defaultValue = "desc") String sort,
+                                  @RequestParam(value = "cursor", required = false) String cursor,
+                                  @RequestParam(value = "modelId", required = false) Long modelId
     ){
-        return ApiResponse.SuccessResponse(SuccessStatus.SEARCH_GET, searchService.searchAll(page, sort));
+        if(cursor != null)
+            return ApiResponse.SuccessResponse(SuccessStatus.SEARCH_GET, searchService.searchAllByCursor(cursor, sort, modelId));
+        return ApiResponse.SuccessResponse(SuccessStatus.SEARCH_GET, searchService.searchAll(page, sort, modelId));
     }
 
 }
@@ -0,0 +1,125 @@
+package umc.meme.shop.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import umc.meme.shop.domain.portfolio.dto.response.PortfolioDto;
+import umc.meme.shop.global.ErrorStatus;
+import umc.meme.shop.global.exception.GlobalException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이지네이션용 커서
+ * 마지막으로 내려준 포트폴리오의 (정렬 기준 값, 평균 별점 컬럼 값, portfolioId) 를 담아 base64url 토큰으로 주고받는다.
+ * 커서 값은 비교하는 쪽과 같은 곳에서 만든다 (DB 검색은 DB 컬럼 값, 검색 색인은 색인 문서 값).
+ * 최신 순(recent)은 portfolioId 가 등록 순서와 같으므로 portfolioId 만으로 seek 한다.
+ * 인기 순(popular), 트렌딩 순(trending)은 점수가 flush 주기마다 바뀌므로, 페이지 사이에 점수가 바뀐 포트폴리오는 중복/누락될 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class PortfolioCursor {
+    private static final String DELIMITER = "|";
+
+    private String sortBy;
+    private String sortKey;
+    private String rating;
+    private Long portfolioId;
+
+    public static PortfolioCursor of(String sortBy, PortfolioDto last) {
+        return of(sortBy, last.getPortfolioId(), last.getPrice(), last.getRating(),
+                last.getPopularity(), last.getTrendingScore());
+    }
+
+    public static PortfolioCursor of(String sortBy, Long portfolioId, int price, double rating,
+                                     long popularity, double trendingScore) {
+        String sortKey = switch (sortBy) {
+            case "desc", "asc" -> String.valueOf(price);
+            case "review" -> String.valueOf(rating);
+            case "recent" -> String.valueOf(portfolioId);
+            case "popular" -> String.valueOf(popularity);
+            case "trending" -> String.valueOf(trendingScore);
+            default -> throw new GlobalException(ErrorStatus.INVALID_SORT_CRITERIA);
+        };
+        return new PortfolioCursor(sortBy, sortKey, String.valueOf(rating), portfolioId);
+    }
+
+    //빈 문자열이면 첫 페이지
+    public static PortfolioCursor decode(String token, String sortBy) {
+        if (token == null || token.isBlank())
+            return null;
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER, -1);
+            if (parts.length != 4 || !parts[0].equals(sortBy))
+                throw new GlobalException(ErrorStatus.INVALID_CURSOR);
+
+            PortfolioCursor cursor = new PortfolioCursor(parts[0], parts[1], parts[2], Long.parseLong(parts[3]));
+            cursor.validate(sortBy);
+            return cursor;
+        } catch (IllegalArgumentException e) {
+            throw new GlobalException(ErrorStatus.INVALID_CURSOR);
+        }
+    }
+
+    //정렬 기준에 맞는 sortKey 와 유한한 rating 인지 확인
+    private void validate(String sortBy) {
+        boolean valid = switch (sortBy) {
+            case "desc", "asc" -> isInteger(sortKey);
+            case "review", "trending" -> isFinite(sortKey);
+            case "recent" -> sortKey.equals(String.valueOf(portfolioId));
+            case "popular" -> isLong(sortKey);
+            default -> throw new GlobalException(ErrorStatus.INVALID_SORT_CRITERIA);
+        };
+        if (!valid || !isFinite(rating))
+            throw new GlobalException(ErrorStatus.INVALID_CURSOR);
+    }
+
+    private static boolean isInteger(String value) {
+        try {
+            Integer.parseInt(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isLong(String value) {
+        try {
+            Long.parseLong(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isFinite(String value) {
+        try {
+            return Double.isFinite(Double.parseDouble(value));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, sortBy, sortKey, rating, String.valueOf(portfolioId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int getPrice() {
+        return Integer.parseInt(sortKey);
+    }
+
+    public long getPopularity() {
+        return Long.parseLong(sortKey);
+    }
+
+    public double getTrendingScore() {
+        return Double.parseDouble(sortKey);
+    }
+
+    public double getRating() {
+        return Double.parseDouble(rating);
+    }
+}
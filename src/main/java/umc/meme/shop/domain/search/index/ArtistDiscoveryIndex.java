@@ -0,0 +1,235 @@
+package umc.meme.shop.domain.search.index;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import umc.meme.shop.domain.artist.entity.Artist;
+import umc.meme.shop.domain.artist.entity.WeeklyAvailability;
+import umc.meme.shop.domain.artist.repository.ArtistRegionView;
+import umc.meme.shop.domain.artist.repository.ArtistRepository;
+import umc.meme.shop.domain.artist.repository.ArtistSpecializationView;
+import umc.meme.shop.global.ErrorStatus;
+import umc.meme.shop.global.enums.*;
+import umc.meme.shop.global.exception.GlobalException;
+import umc.meme.shop.global.util.AfterCommit;
+import umc.meme.shop.global.util.TimeSlots;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 아티스트 조건 검색용 인메모리 비트맵 색인
+ * 아티스트마다 순번(ordinal)을 주고 활동 지역, 전문 분야, 활동 형태, 경력, 요일별 예약 가능 slot 마다 BitSet 하나를 둔다.
+ * 같은 조건 안의 값은 OR, 조건끼리는 AND 로 계산하므로 지역/전문 분야/예약 가능 시간 테이블을 조인하지 않고 비트 연산만으로 답한다.
+ * 기동 시 한 번 전체 적재하고, 이후에는 아티스트 생성/프로필 수정 시 커밋 후 해당 아티스트의 비트만 다시 설정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArtistDiscoveryIndex {
+    private static final int DAYS = DayOfWeek.values().length;
+
+    private final ArtistRepository artistRepository;
+
+    //비트맵 읽기(검색)는 동시에, 갱신은 단독으로
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    //artistId -> ordinal, ordinal -> artistId (순번은 재사용하지 않음)
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final List<Long> artistIds = new ArrayList<>();
+    //색인된 활동 중(ACTIVE) 아티스트
+    private final BitSet active = new BitSet();
+    private final Map<Region, BitSet> byRegion = bitmaps(Region.class);
+    private final Map<Category, BitSet> byCategory = bitmaps(Category.class);
+    private final Map<MakeupLocation, BitSet> byMakeupLocation = bitmaps(MakeupLocation.class);
+    private final Map<WorkExperience, BitSet> byWorkExperience = bitmaps(WorkExperience.class);
+    //[요일][slot]
+    private final BitSet[][] bySlot = slotBitmaps();
+
+    //지역/전문 분야는 projection 으로 한 번에 읽는다 (아티스트마다 컬렉션을 읽지 않도록)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void load() {
+        Map<Long, List<Region>> regions = artistRepository.findAllRegions().stream()
+                .collect(Collectors.groupingBy(ArtistRegionView::getArtistId,
+                        Collectors.mapping(ArtistRegionView::getRegion, Collectors.toList())));
+        Map<Long, List<Category>> specializations = artistRepository.findAllSpecializations().stream()
+                .collect(Collectors.groupingBy(ArtistSpecializationView::getArtistId,
+                        Collectors.mapping(ArtistSpecializationView::getSpecialization, Collectors.toList())));
+
+        List<ArtistDocument> documentList = artistRepository.findAll(Sort.by("userId")).stream()
+                .map(artist -> ArtistDocument.of(artist,
+                        regions.getOrDefault(artist.getUserId(), List.of()),
+                        specializations.getOrDefault(artist.getUserId(), List.of())))
+                .toList();
+        documentList.forEach(this::apply);
+        log.info("artist discovery index loaded : {} artists, {} active", documentList.size(), active.cardinality());
+    }
+
+    //트랜잭션 커밋 후 색인 반영 (문서는 트랜잭션 안에서 만든다)
+    public void indexAfterCommit(Artist artist) {
+        ArtistDocument document = ArtistDocument.from(artist);
+        AfterCommit.run(() -> apply(document));
+    }
+
+    //조건에 맞는 artistId 페이지 (등록 순)
+    public Page<Long> search(Criteria criteria, Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) active.clone();
+            result.and(anyOf(byRegion, criteria.regions()));
+            result.and(anyOf(byCategory, criteria.categories()));
+            if (criteria.makeupLocation() != null)
+                result.and(byMakeupLocation.get(criteria.makeupLocation()));
+            //경력은 최소 경력 이상 전부
+            if (criteria.minWorkExperience() != null)
+                result.and(anyOf(byWorkExperience, Arrays.stream(WorkExperience.values())
+                        .filter(experience -> experience.compareTo(criteria.minWorkExperience()) >= 0)
+                        .toList()));
+            if (criteria.day() != null)
+                result.and(availableAt(criteria.day(), criteria.times()));
+
+            List<Long> content = new ArrayList<>(pageable.getPageSize());
+            int skip = (int) pageable.getOffset();
+            for (int ordinal = result.nextSetBit(0); ordinal >= 0 && content.size() < pageable.getPageSize();
+                 ordinal = result.nextSetBit(ordinal + 1)) {
+                if (skip > 0)
+                    skip--;
+                else
+                    content.add(artistIds.get(ordinal));
+            }
+            return new PageImpl<>(content, pageable, result.cardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //값이 없으면 조건 없음 (전체)
+    private <E extends Enum<E>> BitSet anyOf(Map<E, BitSet> bitmaps, Collection<E> values) {
+        if (values == null || values.isEmpty())
+            return active;
+        BitSet union = new BitSet();
+        for (E value : values) {
+            if (value != null)
+                union.or(bitmaps.get(value));
+        }
+        return union;
+    }
+
+    //times 가 없으면 그 요일에 한 slot 이라도 가능, 있으면 모든 slot 이 가능
+    private BitSet availableAt(DayOfWeek day, Collection<Times> times) {
+        BitSet[] slots = bySlot[day.ordinal()];
+        BitSet available = new BitSet();
+        if (times == null || times.isEmpty()) {
+            for (BitSet slot : slots)
+                available.or(slot);
+            return available;
+        }
+        available.or(active);
+        for (Times time : times) {
+            if (time != null)
+                available.and(slots[time.ordinal()]);
+        }
+        return available;
+    }
+
+    private void apply(ArtistDocument document) {
+        lock.writeLock().lock();
+        try {
+            int ordinal = ordinals.computeIfAbsent(document.artistId(), id -> {
+                artistIds.add(id);
+                return artistIds.size() - 1;
+            });
+            clear(ordinal);
+            if (!document.active())
+                return;
+
+            active.set(ordinal);
+            document.regions().forEach(region -> byRegion.get(region).set(ordinal));
+            document.specializations().forEach(category -> byCategory.get(category).set(ordinal));
+            if (document.makeupLocation() != null) {
+                byMakeupLocation.get(document.makeupLocation()).set(ordinal);
+                //샵/방문 모두 가능한 아티스트는 샵, 방문 검색에도 포함
+                if (document.makeupLocation() == MakeupLocation.BOTH) {
+                    byMakeupLocation.get(MakeupLocation.SHOP).set(ordinal);
+                    byMakeupLocation.get(MakeupLocation.VISIT).set(ordinal);
+                }
+            }
+            if (document.workExperience() != null)
+                byWorkExperience.get(document.workExperience()).set(ordinal);
+            for (DayOfWeek day : DayOfWeek.values()) {
+                for (long rest = document.availability().slots(day) & TimeSlots.ALL; rest != 0; rest &= rest - 1)
+                    bySlot[day.ordinal()][Long.numberOfTrailingZeros(rest)].set(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void clear(int ordinal) {
+        active.clear(ordinal);
+        byRegion.values().forEach(bitmap -> bitmap.clear(ordinal));
+        byCategory.values().forEach(bitmap -> bitmap.clear(ordinal));
+        byMakeupLocation.values().forEach(bitmap -> bitmap.clear(ordinal));
+        byWorkExperience.values().forEach(bitmap -> bitmap.clear(ordinal));
+        for (BitSet[] daySlots : bySlot) {
+            for (BitSet slot : daySlots)
+                slot.clear(ordinal);
+        }
+    }
+
+    private static <E extends Enum<E>> Map<E, BitSet> bitmaps(Class<E> type) {
+        Map<E, BitSet> bitmaps = new EnumMap<>(type);
+        for (E value : type.getEnumConstants())
+            bitmaps.put(value, new BitSet());
+        return bitmaps;
+    }
+
+    private static BitSet[][] slotBitmaps() {
+        BitSet[][] slots = new BitSet[DAYS][TimeSlots.SLOT_COUNT];
+        for (BitSet[] daySlots : slots)
+            Arrays.setAll(daySlots, slot -> new BitSet());
+        return slots;
+    }
+
+    //검색 조건 (null 이나 빈 목록은 조건 없음, times 는 day 와 함께만)
+    public record Criteria(List<Region> regions, List<Category> categories, MakeupLocation makeupLocation,
+                           WorkExperience minWorkExperience, DayOfWeek day, List<Times> times) {
+        public Criteria {
+            if (day == null && times != null && !times.isEmpty())
+                throw new GlobalException(ErrorStatus.INVALID_REQUEST);
+        }
+    }
+
+    private record ArtistDocument(Long artistId, boolean active, List<Region> regions, List<Category> specializations,
+                                  MakeupLocation makeupLocation, WorkExperience workExperience,
+                                  WeeklyAvailability availability) {
+
+        static ArtistDocument from(Artist artist) {
+            return of(artist, artist.getRegion(), artist.getSpecialization());
+        }
+
+        static ArtistDocument of(Artist artist, Collection<Region> regions, Collection<Category> specializations) {
+            return new ArtistDocument(
+                    artist.getUserId(),
+                    artist.getUserStatus() == UserStatus.ACTIVE,
+                    nonNull(regions),
+                    nonNull(specializations),
+                    artist.getMakeupLocation(),
+                    artist.getWorkExperience(),
+                    artist.getWeeklyAvailability());
+        }
+
+        private static <E> List<E> nonNull(Collection<E> values) {
+            return values == null ? List.of() : values.stream().filter(Objects::nonNull).toList();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package umc.meme.shop.domain.search.index;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글/영문 혼합 텍스트용 n-gram 토크나이저
+ * 한글은 형태소 분석 없이 음절 단위로 잘라야 "립", "데일리메이크업" 같은 부분 검색이 가능하므로
+ * 단어마다 unigram + bigram 을 모두 색인하고, 검색어는 bigram(한 글자면 unigram)으로 쪼갠다.
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    //소문자 + NFKC 정규화 (전각 문자, 호환 자모 정리)
+    public static String normalize(String text) {
+        if (text == null)
+            return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    //색인용 토큰: 단어별 unigram + bigram
+    public static Set<String> indexTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            int[] cps = word.codePoints().toArray();
+            for (int i = 0; i < cps.length; i++) {
+                tokens.add(new String(cps, i, 1));
+                if (i + 1 < cps.length)
+                    tokens.add(new String(cps, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    //검색용 토큰: 단어별 bigram, 한 글자 단어는 unigram
+    public static Set<String> queryTokens(String query) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(query)) {
+            int[] cps = word.codePoints().toArray();
+            if (cps.length == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < cps.length; i++)
+                tokens.add(new String(cps, i, 2));
+        }
+        return tokens;
+    }
+
+    //글자/숫자가 아닌 문자를 기준으로 단어 분리
+    public static List<String> words(String text) {
+        String normalized = normalize(text);
+        return List.of(normalized.split("[^\\p{L}\\p{N}]+")).stream()
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+}
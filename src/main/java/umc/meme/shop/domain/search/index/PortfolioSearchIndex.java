@@ -0,0 +1,263 @@
+package umc.meme.shop.domain.search.index;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import umc.meme.shop.domain.artist.entity.Artist;
+import umc.meme.shop.domain.popularity.service.PopularityCounterService;
+import umc.meme.shop.domain.popularity.service.TrendingService;
+import umc.meme.shop.domain.portfolio.entity.Portfolio;
+import umc.meme.shop.domain.portfolio.repository.PortfolioRepository;
+import umc.meme.shop.domain.portfolio.repository.RatingView;
+import umc.meme.shop.domain.search.dto.PortfolioCursor;
+import umc.meme.shop.global.ErrorStatus;
+import umc.meme.shop.global.enums.Category;
+import umc.meme.shop.global.exception.GlobalException;
+import umc.meme.shop.global.util.AfterCommit;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 포트폴리오 텍스트 검색용 인메모리 역색인
+ * makeupName, info, 아티스트 닉네임, 카테고리를 n-gram 으로 색인해 LIKE %query% 풀스캔을 대체한다.
+ * 기동 시 한 번 전체 적재하고, 이후에는 포트폴리오 생성/수정/아티스트 닉네임 변경 시 커밋 후 증분 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PortfolioSearchIndex {
+
+    private final PortfolioRepository portfolioRepository;
+    private final PopularityCounterService popularityCounterService;
+    private final TrendingService trendingService;
+
+    //token -> portfolioId
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    //portfolioId -> 색인 문서
+    private final Map<Long, IndexedPortfolio> documents = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void load() {
+        List<Portfolio> portfolioList = portfolioRepository.findAllNotBlockedWithArtist();
+        portfolioList.forEach(portfolio -> apply(IndexedPortfolio.from(portfolio)));
+        ready = true;
+        log.info("portfolio search index loaded : {} documents, {} tokens", documents.size(), postings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    //트랜잭션 커밋 후 색인 반영 (롤백 시 색인 오염 방지)
+    public void indexAfterCommit(Portfolio portfolio) {
+        IndexedPortfolio document = IndexedPortfolio.from(portfolio);
+        AfterCommit.run(() -> apply(document));
+    }
+
+    //아티스트 닉네임 변경 시 해당 아티스트의 포트폴리오 재색인
+    public void indexAfterCommit(Artist artist) {
+        List<IndexedPortfolio> documentList = artist.getPortfolioList().stream()
+                .map(IndexedPortfolio::from)
+                .toList();
+        AfterCommit.run(() -> documentList.forEach(this::apply));
+    }
+
+    //리뷰 합산으로 평균 별점이 바뀐 포트폴리오 (커밋 후 DB 에 반영된 값을 다시 읽는다)
+    public void refreshRatingsAfterCommit(Collection<Long> portfolioIds) {
+        List<Long> portfolioIdList = List.copyOf(portfolioIds);
+        AfterCommit.run(() -> refreshRatings(portfolioRepository.findRatingsByPortfolioIdIn(portfolioIdList)));
+    }
+
+    //전체 재계산 이후
+    public void refreshAllRatingsAfterCommit() {
+        AfterCommit.run(() -> refreshRatings(portfolioRepository.findNotBlockedRatings()));
+    }
+
+    //검색 : 조건에 맞는 portfolioId 페이지 반환
+    public Page<Long> search(String query, String sortBy, Pageable pageable) {
+        List<IndexedPortfolio> matched = withScores(match(query), sortBy);
+        matched.sort(comparator(sortBy));
+
+        int start = (int) Math.min(pageable.getOffset(), matched.size());
+        int end = Math.min(start + pageable.getPageSize(), matched.size());
+        List<Long> content = matched.subList(start, end).stream()
+                .map(IndexedPortfolio::portfolioId)
+                .toList();
+
+        return new PageImpl<>(content, pageable, matched.size());
+    }
+
+    //커서 검색 : 커서 이후의 포트폴리오를 limit 개, 비교에 쓴 색인 값으로 만든 커서로 반환
+    public List<PortfolioCursor> searchAfter(String query, String sortBy, PortfolioCursor cursor, int limit) {
+        Comparator<IndexedPortfolio> comparator = seekComparator(sortBy);
+        IndexedPortfolio after = cursor == null ? null : IndexedPortfolio.from(cursor);
+
+        return withScores(match(query), sortBy).stream()
+                .filter(document -> after == null || comparator.compare(document, after) > 0)
+                .sorted(comparator)
+                .limit(limit)
+                .map(document -> document.cursor(sortBy))
+                .toList();
+    }
+
+    private List<IndexedPortfolio> match(String query) {
+        Set<String> tokens = NGramTokenizer.queryTokens(query);
+        if (tokens.isEmpty())
+            return new ArrayList<>(documents.values());
+
+        //posting 이 가장 짧은 토큰부터 교집합
+        List<Set<Long>> postingList = new ArrayList<>();
+        for (String token : tokens) {
+            Set<Long> posting = postings.get(token);
+            if (posting == null)
+                return new ArrayList<>();
+            postingList.add(posting);
+        }
+        postingList.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> candidates = new HashSet<>(postingList.get(0));
+        for (int i = 1; i < postingList.size() && !candidates.isEmpty(); i++)
+            candidates.retainAll(postingList.get(i));
+
+        //bigram 교집합은 순서를 보장하지 않으므로 원문 포함 여부로 최종 확인
+        List<String> words = NGramTokenizer.words(query);
+        List<IndexedPortfolio> result = new ArrayList<>();
+        for (Long portfolioId : candidates) {
+            IndexedPortfolio document = documents.get(portfolioId);
+            if (document != null && words.stream().allMatch(document.text()::contains))
+                result.add(document);
+        }
+        return result;
+    }
+
+    //인기 순/트렌딩 순은 색인 이후 바뀐 점수를 반영해 정렬 (DB 에 반영된 점수 기준)
+    private List<IndexedPortfolio> withScores(List<IndexedPortfolio> documents, String sortBy) {
+        if (!sortBy.equals("popular") && !sortBy.equals("trending"))
+            return documents;
+        List<IndexedPortfolio> result = new ArrayList<>(documents.size());
+        for (IndexedPortfolio document : documents) {
+            result.add(sortBy.equals("popular")
+                    ? document.withPopularity(popularityCounterService.portfolioScore(document.portfolioId()))
+                    : document.withTrendingScore(trendingService.persistedScore(document.portfolioId())));
+        }
+        return result;
+    }
+
+    //SearchService.setPageRequest 와 동일한 정렬 기준
+    private Comparator<IndexedPortfolio> comparator(String sortBy) {
+        Comparator<IndexedPortfolio> sort = switch (sortBy) {
+            case "desc" -> Comparator.comparingInt(IndexedPortfolio::price).reversed();
+            case "asc" -> Comparator.comparingInt(IndexedPortfolio::price);
+            case "review" -> Comparator.comparingDouble(IndexedPortfolio::rating).reversed();
+            case "recent" -> Comparator.comparing(IndexedPortfolio::createdAt,
+                    Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder().reversed()));
+            case "popular" -> Comparator.comparingLong(IndexedPortfolio::popularity).reversed();
+            case "trending" -> Comparator.comparingDouble(IndexedPortfolio::trendingScore).reversed();
+            default -> throw new GlobalException(ErrorStatus.INVALID_SORT_CRITERIA);
+        };
+
+        //별점 높은 순, 최신 등록 순
+        return sort.thenComparing(Comparator.comparingDouble(IndexedPortfolio::rating).reversed())
+                .thenComparing(Comparator.comparingLong(IndexedPortfolio::portfolioId).reversed());
+    }
+
+    //커서 검색은 PortfolioRepositoryImpl 과 같이 최신 순을 portfolioId 로 정렬
+    private Comparator<IndexedPortfolio> seekComparator(String sortBy) {
+        if (!sortBy.equals("recent"))
+            return comparator(sortBy);
+        return Comparator.comparingLong(IndexedPortfolio::portfolioId).reversed();
+    }
+
+    //색인되지 않은(차단된) 포트폴리오는 무시
+    private synchronized void refreshRatings(List<RatingView> ratingList) {
+        for (RatingView view : ratingList)
+            documents.computeIfPresent(view.getPortfolioId(), (id, document) -> document.withRating(view.getRating()));
+    }
+
+    private synchronized void apply(IndexedPortfolio document) {
+        remove(document.portfolioId());
+        if (document.blocked())
+            return;
+
+        documents.put(document.portfolioId(), document);
+        for (String token : document.tokens())
+            postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(document.portfolioId());
+    }
+
+    private void remove(Long portfolioId) {
+        IndexedPortfolio previous = documents.remove(portfolioId);
+        if (previous == null)
+            return;
+
+        for (String token : previous.tokens()) {
+            Set<Long> posting = postings.get(token);
+            if (posting == null)
+                continue;
+            posting.remove(portfolioId);
+            if (posting.isEmpty())
+                postings.remove(token);
+        }
+    }
+
+    private record IndexedPortfolio(Long portfolioId, String text, Set<String> tokens,
+                                    int price, double rating, LocalDateTime createdAt, long popularity,
+                                    double trendingScore, boolean blocked) {
+
+        static IndexedPortfolio from(Portfolio portfolio) {
+            Category category = portfolio.getCategory();
+            String source = String.join(" ",
+                    Objects.toString(portfolio.getMakeupName(), ""),
+                    Objects.toString(portfolio.getInfo(), ""),
+                    Objects.toString(portfolio.getArtist().getNickname(), ""),
+                    category == null ? "" : category.name() + " " + category.getValue());
+
+            return new IndexedPortfolio(
+                    portfolio.getPortfolioId(),
+                    String.join(" ", NGramTokenizer.words(source)),
+                    NGramTokenizer.indexTokens(source),
+                    portfolio.getPrice(),
+                    portfolio.getRating(),
+                    portfolio.getCreatedAt(),
+                    portfolio.getPopularity(),
+                    portfolio.getTrendingScore(),
+                    portfolio.isBlock());
+        }
+
+        //커서 비교용 문서
+        static IndexedPortfolio from(PortfolioCursor cursor) {
+            String sortBy = cursor.getSortBy();
+            int price = sortBy.equals("desc") || sortBy.equals("asc") ? cursor.getPrice() : 0;
+            long popularity = sortBy.equals("popular") ? cursor.getPopularity() : 0;
+            double trendingScore = sortBy.equals("trending") ? cursor.getTrendingScore() : 0;
+            return new IndexedPortfolio(cursor.getPortfolioId(), "", Set.of(),
+                    price, cursor.getRating(), null, popularity, trendingScore, false);
+        }
+
+        PortfolioCursor cursor(String sortBy) {
+            return PortfolioCursor.of(sortBy, portfolioId, price, rating, popularity, trendingScore);
+        }
+
+        IndexedPortfolio withRating(double rating) {
+            return new IndexedPortfolio(portfolioId, text, tokens, price, rating, createdAt, popularity, trendingScore, blocked);
+        }
+
+        IndexedPortfolio withPopularity(long popularity) {
+            return new IndexedPortfolio(portfolioId, text, tokens, price, rating, createdAt, popularity, trendingScore, blocked);
+        }
+
+        IndexedPortfolio withTrendingScore(double trendingScore) {
+            return new IndexedPortfolio(portfolioId, text, tokens, price, rating, createdAt, popularity, trendingScore, blocked);
+        }
+    }
+}
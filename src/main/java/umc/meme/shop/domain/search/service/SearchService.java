@@ -5,53 +5,138 @@ import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import umc.meme.shop.domain.artist.entity.Artist;
 import umc.meme.shop.domain.artist.repository.ArtistRepository;
+import umc.meme.shop.domain.portfolio.dto.response.PortfolioCursorPageDto;
+import umc.meme.shop.domain.portfolio.dto.response.PortfolioDto;
 import umc.meme.shop.domain.portfolio.dto.response.PortfolioPageDto;
 import umc.meme.shop.domain.portfolio.entity.Portfolio;
 import umc.meme.shop.domain.portfolio.repository.PortfolioRepository;
+import umc.meme.shop.domain.portfolio.service.PortfolioCardReader;
+import umc.meme.shop.domain.portfolio.service.PortfolioResultCache;
+import umc.meme.shop.domain.portfolio.service.PortfolioResultCache.ResultKey;
+import umc.meme.shop.domain.search.dto.PortfolioCursor;
+import umc.meme.shop.domain.search.index.PortfolioSearchIndex;
 import umc.meme.shop.global.ErrorStatus;
 import umc.meme.shop.global.enums.Category;
 import umc.meme.shop.global.exception.GlobalException;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SearchService {
+    private static final int PAGE_SIZE = 30;
 
     private final PortfolioRepository portfolioRepository;
     private final ArtistRepository artistRepository;
+    private final PortfolioSearchIndex portfolioSearchIndex;
+    private final PortfolioCardReader portfolioCardReader;
+    private final PortfolioResultCache portfolioResultCache;
 
     //검색
-    public PortfolioPageDto search(String query, int page, String sortBy){
-        Pageable pageable = setPageRequest(page, sortBy);
+    public PortfolioPageDto search(String query, int page, String sortBy, Long modelId){
+        //색인 적재 전에는 DB 검색
+        if(!portfolioSearchIndex.isReady()){
+            Pageable pageable = setPageRequest(page, sortBy);
+            Page<Portfolio> portfolioPage = portfolioRepository.search(query, pageable);
+            return toPageDto(portfolioPage, modelId);
+        }
 
-        //query 검색
-        Page<Portfolio> portfolioPage = portfolioRepository.search(query, pageable);
-        return PortfolioPageDto.from(portfolioPage);
+        //query 검색 (역색인)
+        Page<Long> idPage = portfolioSearchIndex.search(query, sortBy, PageRequest.of(page, PAGE_SIZE));
+        return PortfolioPageDto.from(idPage, portfolioCardReader.read(idPage.getContent(), modelId));
     }
 
-    //카테고리 검색
-    public PortfolioPageDto searchCategory(Category category, int page, String sortBy){
-        Pageable pageable = setPageRequest(page, sortBy);
-        Page<Portfolio> portfolioPage = portfolioRepository.findByCategory(category, pageable);
-        return PortfolioPageDto.from(portfolioPage);
+    //카테고리 검색 (결과 캐시, 관심 여부는 조회 시 채움)
+    public PortfolioPageDto searchCategory(Category category, int page, String sortBy, Long modelId){
+        PortfolioPageDto result = portfolioResultCache.page(ResultKey.category(category, page, sortBy), () -> {
+            Pageable pageable = setPageRequest(page, sortBy);
+            Page<Portfolio> portfolioPage = portfolioRepository.findByCategory(category, pageable);
+            return toPageDto(portfolioPage, null);
+        });
+        return portfolioCardReader.withFavorites(result, modelId);
     }
 
     //관심 아티스트 검색
-    public PortfolioPageDto searchArtist(Long artistId, int page, String sortBy){
+    public PortfolioPageDto searchArtist(Long artistId, int page, String sortBy, Long modelId){
         Artist artist = artistRepository.findById(artistId)
                 .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_ARTIST));
 
         Pageable pageable = setPageRequest(page, sortBy);
         Page<Portfolio> portfolioPage = portfolioRepository.findByArtist(artist, pageable);
-        return PortfolioPageDto.from(portfolioPage);
+        return toPageDto(portfolioPage, modelId);
     }
 
-    //전체 조회
-    public PortfolioPageDto searchAll(int page, String sortBy) {
-        Pageable pageable = setPageRequest(page, sortBy);
-        Page<Portfolio> portfolioPage = portfolioRepository.findAllNotBlocked(pageable);
-        return PortfolioPageDto.from(portfolioPage);
+    //전체 조회 (결과 캐시, 관심 여부는 조회 시 채움)
+    public PortfolioPageDto searchAll(int page, String sortBy, Long modelId) {
+        PortfolioPageDto result = portfolioResultCache.page(ResultKey.all(page, sortBy), () -> {
+            Pageable pageable = setPageRequest(page, sortBy);
+            Page<Portfolio> portfolioPage = portfolioRepository.findAllNotBlocked(pageable);
+            return toPageDto(portfolioPage, null);
+        });
+        return portfolioCardReader.withFavorites(result, modelId);
+    }
+
+    /**cursor**/
+    //검색 - 커서
+    public PortfolioCursorPageDto searchByCursor(String query, String cursor, String sortBy, Long modelId){
+        PortfolioCursor after = PortfolioCursor.decode(cursor, sortBy);
+
+        //색인 적재 전에는 DB 검색
+        if(!portfolioSearchIndex.isReady()){
+            List<Portfolio> portfolioList = portfolioRepository.findPageAfter(query, null, null, sortBy, after, PAGE_SIZE + 1);
+            return toCursorPageDto(portfolioList, sortBy, modelId);
+        }
+
+        //다음 커서도 색인 값으로 만들어야 색인 비교와 기준이 같다
+        Map<Long, PortfolioCursor> cursorMap = portfolioSearchIndex.searchAfter(query, sortBy, after, PAGE_SIZE + 1).stream()
+                .collect(Collectors.toMap(PortfolioCursor::getPortfolioId, Function.identity(), (first, next) -> first,
+                        LinkedHashMap::new));
+        List<PortfolioDto> content = portfolioCardReader.read(List.copyOf(cursorMap.keySet()), modelId);
+        return PortfolioCursorPageDto.from(content, PAGE_SIZE, last -> cursorMap.get(last.getPortfolioId()));
+    }
+
+    //카테고리 검색 - 커서
+    public PortfolioCursorPageDto searchCategoryByCursor(Category category, String cursor, String sortBy, Long modelId){
+        PortfolioCursor after = PortfolioCursor.decode(cursor, sortBy);
+        List<Portfolio> portfolioList = portfolioRepository.findPageAfter(null, category, null, sortBy, after, PAGE_SIZE + 1);
+        return toCursorPageDto(portfolioList, sortBy, modelId);
+    }
+
+    //관심 아티스트 검색 - 커서
+    public PortfolioCursorPageDto searchArtistByCursor(Long artistId, String cursor, String sortBy, Long modelId){
+        Artist artist = artistRepository.findById(artistId)
+                .orElseThrow(() -> new GlobalException(ErrorStatus.NOT_EXIST_ARTIST));
+
+        PortfolioCursor after = PortfolioCursor.decode(cursor, sortBy);
+        List<Portfolio> portfolioList = portfolioRepository.findPageAfter(null, null, artist, sortBy, after, PAGE_SIZE + 1);
+        return toCursorPageDto(portfolioList, sortBy, modelId);
+    }
+
+    //전체 조회 - 커서
+    public PortfolioCursorPageDto searchAllByCursor(String cursor, String sortBy, Long modelId){
+        PortfolioCursor after = PortfolioCursor.decode(cursor, sortBy);
+        List<Portfolio> portfolioList = portfolioRepository.findPageAfter(null, null, null, sortBy, after, PAGE_SIZE + 1);
+        return toCursorPageDto(portfolioList, sortBy, modelId);
+    }
+
+    private PortfolioPageDto toPageDto(Page<Portfolio> portfolioPage, Long modelId){
+        List<PortfolioDto> content = portfolioCardReader.read(toIdList(portfolioPage.getContent()), modelId);
+        return PortfolioPageDto.from(portfolioPage, content);
+    }
+
+    private PortfolioCursorPageDto toCursorPageDto(List<Portfolio> portfolioList, String sortBy, Long modelId){
+        List<PortfolioDto> content = portfolioCardReader.read(toIdList(portfolioList), modelId);
+        return PortfolioCursorPageDto.from(content, PAGE_SIZE, sortBy);
+    }
+
+    private List<Long> toIdList(List<Portfolio> portfolioList){
+        return portfolioList.stream()
+                .map(Portfolio::getPortfolioId)
+                .toList();
     }
 
     //검색하기 정렬 기준 설정
@@ -60,13 +145,15 @@ public class SearchService {
         Sort sort = switch (sortBy) {
             case "desc" -> Sort.by("price").descending();
             case "asc" -> Sort.by("price").ascending();
-            case "review" -> Sort.by("averageStars").descending();
+            case "review" -> Sort.by("rating").descending();
             case "recent" -> Sort.by("createdAt").descending();
+            case "popular" -> Sort.by("popularity").descending();
+            case "trending" -> Sort.by("trendingScore").descending();
             default -> throw new GlobalException(ErrorStatus.INVALID_SORT_CRITERIA);
         };
 
         //별점 높은 순 정렬 추가
-        Sort finalSort = sort.and(Sort.by("averageStars").descending());
-        return PageRequest.of(page, 30, finalSort);
+        Sort finalSort = sort.and(Sort.by("rating").descending());
+        return PageRequest.of(page, PAGE_SIZE, finalSort);
     }
 }
@@ -6,10 +6,14 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import umc.meme.shop.global.enums.Gender;
 import umc.meme.shop.domain.mypage.entity.Inquiry;
+import umc.meme.shop.global.config.SecondLevelCacheConfig;
+import umc.meme.shop.global.util.SnowflakeId;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -22,10 +26,12 @@ import umc.meme.shop.global.enums.UserStatus;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USER)
 @Inheritance(strategy = InheritanceType.JOINED)
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "user_id")
     private Long userId;
 
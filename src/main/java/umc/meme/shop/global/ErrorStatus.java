@@ -40,6 +40,7 @@ public enum ErrorStatus {
     //portfolio
     ALREADY_EXIST_PORTFOLIO(400, "해당 포트폴리오 제목이 이미 존재합니다"),
     INVALID_SORT_CRITERIA(400, "잘못된 정렬 기준입니다"),
+    INVALID_CURSOR(400, "잘못된 페이지 커서입니다"),
     BLOCKED_PORTFOLIO(400, "숨김 처리된 포트폴리오입니다"),
     NOT_EXIST_PORTFOLIO_IMG(400, "포트폴리오 이미지를 찾을 수 없습니다."),
 
@@ -47,11 +48,17 @@ public enum ErrorStatus {
     ALREADY_REVIEWED(400, "이미 리뷰 작성이 완료된 예약입니다."),
     INVALID_REVIEW_REQUEST(400, "예약이 완료되지 않아 리뷰를 작성할 수 없습니다."),
     INVALID_MODEL_FOR_REVIEW(400,  "사용자가 작성하지 않은 리뷰입니다."),
+    INVALID_STAR(400, "별점은 1점 이상 5점 이하만 가능합니다."),
 
     //reservation
     ALREADY_CHANGE_STATUS(400, "이미 예약 상태가 변경되었습니다."),
     INVALID_CHANGE_STATUS(400, "이미 완료된 예약은 취소할 수 없습니다."),
     NOT_ALLOW_DUPLICATED_RESERVATION(400, "중복된 예약 시간입니다."),
+    NOT_AVAILABLE_RESERVATION_TIME(400, "아티스트의 예약 가능 시간이 아닙니다."),
+    INVALID_AVAILABILITY_RANGE(400, "조회 기간은 1일 이상 31일 이하만 가능합니다."),
+    INVALID_RESERVATION_BATCH(400, "한 번에 1개 이상 48개 이하의 시간만 예약할 수 있습니다."),
+    DUPLICATED_SLOT_IN_REQUEST(400, "요청에 같은 날짜와 시간이 중복되었습니다."),
+    RESERVATION_BATCH_ABORTED(400, "같은 요청의 다른 시간을 예약할 수 없어 예약되지 않았습니다."),
 
     NOT_ALLOW_OVER_ONE_RESERVATION(400,"한 번에 하나의 예약만 가능합니다." ),
     INVALID_CHANGE_COMPLETE(400,"취소된 예약을 완료 상태로 변경할 수 없습니다." ),
@@ -12,6 +12,7 @@ public enum SuccessStatus {
     /**artist**/
     ARTIST_PROFILE_UPDATE(200, "아티스트 프로필 수정이 완료되었습니다"),
     ARTIST_PROFILE_GET(200, "아티스트 프로필 조회가 완료되었습니다"),
+    ARTIST_SEARCH_GET(200, "아티스트 조건 검색이 완료되었습니다"),
 
     PORTFOLIO_CREATE(200, "포트폴리오 생성이 완료되었습니다"),
     PORTFOLIO_GET(200, "포트폴리오 조회가 완료되었습니다"),
@@ -32,6 +33,10 @@ public enum SuccessStatus {
 
     RECOMMEND_REVIEW_GET(200, "리뷰 순 포트폴리오 추천이 완료되었습니다."),
     RECOMMEND_RECENT_GET(200, "최신 순 포트폴리오 추천이 완료되었습니다."),
+    RECOMMEND_POPULAR_GET(200, "인기 순 포트폴리오 추천이 완료되었습니다."),
+    RECOMMEND_CATEGORY_GET(200, "카테고리별 포트폴리오 추천이 완료되었습니다."),
+    RECOMMEND_PERSONAL_GET(200, "맞춤 포트폴리오 추천이 완료되었습니다."),
+    RECOMMEND_TRENDING_GET(200, "트렌딩 포트폴리오 추천이 완료되었습니다."),
 
     /**review**/
     REVIEW_CREATE(200, "리뷰 작성이 완료되었습니다"),
@@ -40,10 +45,12 @@ public enum SuccessStatus {
 
     /**reservation**/
     RESERVATION_CREATE(200, "예약이 완료되었습니다"),
+    RESERVATION_BATCH_CREATE(200, "여러 시간 예약 요청이 처리되었습니다"),
     RESERVATION_GET(200, "예약 조회가 완료되었습니다"),
     RESERVATION_UPDATE(200, "예약 상태 변경이 완료되었습니다"),
     ARTIST_LOCATION_GET(200, "아티스트의 예약 가능 장소 조회가 완료되었습니다"),
     ARTIST_TIME_GET(200, "아티스트의 예약 가능 시간 조회가 완료되었습니다."),
+    ARTIST_AVAILABILITY_GET(200, "아티스트의 기간별 예약 가능 시간 조회가 완료되었습니다."),
 
     /**mypage**/
     MYPAGE_GET(200, "마이페이지 조회가 완료되었습니다"),
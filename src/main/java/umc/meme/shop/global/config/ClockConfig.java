@@ -0,0 +1,15 @@
+package umc.meme.shop.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+//시각에 의존하는 스케줄러가 테스트에서 시계를 바꿔 끼울 수 있도록 Clock 을 빈으로 주입
+@Configuration
+public class ClockConfig {
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,31 @@
+package umc.meme.shop.global.config;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import umc.meme.shop.global.util.AfterCommit;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC 로 직접 갱신한 행을 2차 캐시에서 제거
+ * Hibernate 를 거치지 않은 UPDATE 는 캐시가 알 수 없으므로, 갱신한 쪽에서 커밋 뒤 해당 ID 만 내보낸다.
+ * 커밋 직전에 다른 트랜잭션이 읽어 넣은 이전 값은 entity-ttl 이 지나면 사라진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCacheEvictor {
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictAfterCommit(Class<?> entityClass, Collection<?> ids) {
+        if (ids.isEmpty())
+            return;
+        List<?> targets = List.copyOf(ids);
+        AfterCommit.run(() -> {
+            Cache cache = entityManagerFactory.getCache();
+            targets.forEach(id -> cache.evict(entityClass, id));
+        });
+    }
+}
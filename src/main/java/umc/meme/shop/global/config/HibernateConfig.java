@@ -0,0 +1,29 @@
+package umc.meme.shop.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import umc.meme.shop.global.util.SnowflakeIdGenerator;
+
+//여러 행을 저장/수정할 때 같은 테이블 SQL 을 JDBC batch 로 묶어서 전송
+@Configuration
+public class HibernateConfig {
+    private static final int JDBC_BATCH_SIZE = 50;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    //Snowflake ID 노드 번호 (0 ~ 15, 서버마다 다르게 설정)
+    @Bean
+    public HibernatePropertiesCustomizer snowflakeNodeCustomizer(@Value("${meme.id.node-id:0}") long nodeId) {
+        return properties -> properties.put(SnowflakeIdGenerator.NODE_ID_SETTING, nodeId);
+    }
+}
@@ -0,0 +1,78 @@
+package umc.meme.shop.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Caffeine, 서버 로컬)
+ * 거의 모든 요청에서 다시 읽는 사용자(아티스트/모델), 포트폴리오, 포트폴리오 이미지와 아티스트 컬렉션을 region 별로 캐시한다.
+ * region 은 여기서 모두 만들어 두고 정의되지 않은 region 은 기동 시 실패시킨다.
+ * 엔티티를 통한 변경은 Hibernate 가 커밋 시 무효화하고, JDBC 로 직접 갱신한 행은 EntityCacheEvictor 로 제거한다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+    //User 상속 계층(Artist, Model)은 root 엔티티의 region 하나를 같이 쓴다
+    public static final String USER = "user";
+    public static final String ARTIST_REGION = "artist.region";
+    public static final String ARTIST_SPECIALIZATION = "artist.specialization";
+    public static final String ARTIST_AVAILABLE_TIME = "artist.availableTime";
+    public static final String PORTFOLIO = "portfolio";
+    public static final String PORTFOLIO_IMG = "portfolioImg";
+    public static final String PORTFOLIO_IMG_LIST = "portfolio.portfolioImgList";
+
+    //region 이름과 최대 항목 수 (넘으면 Caffeine 이 사용 빈도 기준으로 내보냄)
+    static final List<CacheRegion> REGIONS = List.of(
+            new CacheRegion(USER, 10_000),
+            new CacheRegion(ARTIST_REGION, 5_000),
+            new CacheRegion(ARTIST_SPECIALIZATION, 5_000),
+            new CacheRegion(ARTIST_AVAILABLE_TIME, 5_000),
+            new CacheRegion(PORTFOLIO, 20_000),
+            new CacheRegion(PORTFOLIO_IMG, 50_000),
+            new CacheRegion(PORTFOLIO_IMG_LIST, 20_000));
+
+    //ttl: 무효화가 누락된 항목도 이 시간이 지나면 DB 에서 다시 읽는다
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(@Value("${meme.cache.entity-ttl:PT10M}") Duration ttl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        for (CacheRegion region : REGIONS) {
+            if (cacheManager.getCache(region.name()) != null)
+                continue;
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            //Hibernate 가 이미 분해된 CacheEntry 를 넣으므로 값 복사는 필요 없다
+            configuration.setStoreByValue(false);
+            cacheManager.createCache(region.name(), configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            //region 별 hit/miss 집계 (SecondLevelCacheMetrics)
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    record CacheRegion(String name, long maximumSize) {
+    }
+}
@@ -0,0 +1,45 @@
+package umc.meme.shop.global.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+//2차 캐시 region 별 hit ratio 를 주기적으로 기록 (직전 기록 이후 구간 기준)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheMetrics {
+    private final EntityManagerFactory entityManagerFactory;
+
+    //region -> 직전 기록 시점의 누적 {hit, miss}
+    private final Map<String, long[]> previous = new HashMap<>();
+
+    @Scheduled(fixedDelayString = "${meme.cache.metrics-interval:PT5M}")
+    public synchronized void report() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (SecondLevelCacheConfig.CacheRegion region : SecondLevelCacheConfig.REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region.name());
+            long hits = regionStatistics.getHitCount();
+            long misses = regionStatistics.getMissCount();
+            long[] last = previous.getOrDefault(region.name(), new long[2]);
+            previous.put(region.name(), new long[]{hits, misses});
+
+            long intervalHits = hits - last[0];
+            long intervalMisses = misses - last[1];
+            long total = intervalHits + intervalMisses;
+            if (total == 0)
+                continue;
+            log.info("second-level cache {} : hit ratio {}% ({} hits, {} misses, {} puts total)",
+                    region.name(), String.format("%.1f", intervalHits * 100.0 / total),
+                    intervalHits, intervalMisses, regionStatistics.getPutCount());
+        }
+    }
+}
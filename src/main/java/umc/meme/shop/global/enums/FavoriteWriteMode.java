@@ -0,0 +1,7 @@
+package umc.meme.shop.global.enums;
+
+//관심 추가/삭제 반영 방식
+public enum FavoriteWriteMode {
+    SYNC, //요청마다 트랜잭션으로 바로 반영
+    WRITE_BEHIND //버퍼에 기록 후 응답, 주기적으로 일괄 반영 (flush 전 장애 시 마지막 주기의 변경은 유실될 수 있음)
+}
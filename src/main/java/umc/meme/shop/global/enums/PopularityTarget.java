@@ -0,0 +1,5 @@
+package umc.meme.shop.global.enums;
+
+public enum PopularityTarget {
+    PORTFOLIO, ARTIST
+}
@@ -0,0 +1,27 @@
+package umc.meme.shop.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 커밋된 변경만 메모리 상태(캐시, 색인, 카운터)에 반영하기 위한 유틸
+ * 트랜잭션 안이면 커밋 후에 실행하고 (롤백되면 실행하지 않음), 트랜잭션 밖이면 바로 실행한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
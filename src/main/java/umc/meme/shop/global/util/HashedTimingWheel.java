@@ -0,0 +1,108 @@
+package umc.meme.shop.global.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * 해시 타이밍 휠
+ * 만료 시각을 tick 단위 bucket(ticks % wheelSize)에 넣고, advance() 호출 시 현재 시각까지 지난 bucket 만 확인한다.
+ * 한 바퀴(tick * wheelSize)보다 먼 항목은 남은 바퀴 수(rounds)를 줄여 가며 보관한다.
+ * 스레드를 직접 만들지 않으므로 advance() 는 스케줄러에서 주기적으로 호출하고, 시각은 주입한 Clock 을 따른다.
+ */
+public class HashedTimingWheel<T> {
+    private final Clock clock;
+    private final long tickMillis;
+    private final int mask;
+    private final List<Entry<T>>[] buckets;
+    private final long startMillis;
+    //이미 처리한 tick 보다 이른 deadline (다음 advance() 에서 바로 반환)
+    private final List<T> overdue = new ArrayList<>();
+
+    //다음에 처리할 tick
+    private long currentTick = 0;
+    private int size = 0;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(Clock clock, Duration tick, int wheelSize) {
+        if (tick.toMillis() <= 0 || wheelSize <= 0)
+            throw new IllegalArgumentException("tick and wheelSize must be positive");
+
+        int normalized = Integer.highestOneBit(wheelSize - 1 == 0 ? 1 : wheelSize - 1) << 1;
+        this.clock = clock;
+        this.tickMillis = tick.toMillis();
+        this.mask = normalized - 1;
+        this.buckets = new List[normalized];
+        for (int i = 0; i < normalized; i++)
+            buckets[i] = new LinkedList<>();
+        this.startMillis = clock.millis();
+    }
+
+    //deadline 이 지나면 advance() 결과로 반환 (이미 지난 deadline 은 다음 advance() 에서 반환)
+    public synchronized void schedule(T item, Instant deadline) {
+        long deadlineTick = ceilDiv(deadline.toEpochMilli() - startMillis, tickMillis);
+        if (deadlineTick < currentTick) {
+            overdue.add(item);
+            size++;
+            return;
+        }
+        long rounds = (deadlineTick - currentTick) / buckets.length;
+        buckets[(int) (deadlineTick & mask)].add(new Entry<>(item, rounds));
+        size++;
+    }
+
+    //현재 시각까지 만료된 항목 반환
+    public synchronized List<T> advance() {
+        long targetTick = Math.floorDiv(clock.millis() - startMillis, tickMillis);
+        List<T> expired = new ArrayList<>(overdue);
+        size -= overdue.size();
+        overdue.clear();
+
+        //한 바퀴 이상 밀린 경우에도 bucket 은 한 번씩만 확인하면 된다
+        long ticks = Math.min(targetTick - currentTick + 1, buckets.length);
+        for (long i = 0; i < ticks; i++)
+            expireBucket(buckets[(int) ((currentTick + i) & mask)], targetTick - currentTick - i, expired);
+
+        if (targetTick >= currentTick)
+            currentTick = targetTick + 1;
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    //passedRounds: 이 bucket 이 이번 advance 에서 추가로 지나친 바퀴 수
+    private void expireBucket(List<Entry<T>> bucket, long remainingTicks, List<T> expired) {
+        long passedRounds = remainingTicks / buckets.length;
+        Iterator<Entry<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Entry<T> entry = iterator.next();
+            if (entry.rounds <= passedRounds) {
+                iterator.remove();
+                expired.add(entry.item);
+                size--;
+            } else {
+                entry.rounds -= passedRounds + 1;
+            }
+        }
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private long rounds;
+
+        private Entry(T item, long rounds) {
+            this.item = item;
+            this.rounds = rounds;
+        }
+    }
+}
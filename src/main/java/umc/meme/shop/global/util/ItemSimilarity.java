@@ -0,0 +1,177 @@
+package umc.meme.shop.global.util;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 사용자-아이템 상호작용 기반 item-item 유사도 (가중 코사인)
+ * 사용자별 상호작용 묶음(basket)과 아이템별 사용자 목록(역색인)을 dense index 배열로 만든 뒤,
+ * 아이템 구간을 fork-join 으로 나눠 아이템마다 함께 등장한 아이템의 점수를 누적하고 상위 K 개만 남긴다.
+ * 아이템마다 결과 칸이 따로 있으므로 작업 간 공유 쓰기는 없다.
+ */
+public final class ItemSimilarity {
+    //한 작업이 맡는 아이템 수
+    private static final int THRESHOLD = 64;
+
+    private ItemSimilarity() {
+    }
+
+    /**
+     * @param maxBasket 상호작용이 이보다 많은 사용자는 제외 (모든 아이템을 잇는 소수 사용자가 계산량과 결과를 지배하지 않도록)
+     * @return itemId -> 유사도 내림차순 이웃 (이웃이 없는 아이템은 없음)
+     */
+    public static Map<Long, List<Neighbor>> topNeighbors(Collection<Interaction> interactions, int k, int maxBasket,
+                                                         ForkJoinPool pool) {
+        //(사용자, 아이템) 별 가중치 합
+        Map<Long, Map<Long, Double>> byUser = new HashMap<>();
+        for (Interaction interaction : interactions)
+            byUser.computeIfAbsent(interaction.userId(), key -> new HashMap<>())
+                    .merge(interaction.itemId(), interaction.weight(), Double::sum);
+
+        Map<Long, Integer> itemIndex = new HashMap<>();
+        List<Long> itemIds = new ArrayList<>();
+        List<int[]> basketItems = new ArrayList<>();
+        List<double[]> basketWeights = new ArrayList<>();
+        for (Map<Long, Double> basket : byUser.values()) {
+            if (basket.size() > maxBasket)
+                continue;
+            int[] items = new int[basket.size()];
+            double[] weights = new double[basket.size()];
+            int i = 0;
+            for (Map.Entry<Long, Double> entry : basket.entrySet()) {
+                items[i] = itemIndex.computeIfAbsent(entry.getKey(), id -> {
+                    itemIds.add(id);
+                    return itemIds.size() - 1;
+                });
+                weights[i++] = entry.getValue();
+            }
+            basketItems.add(items);
+            basketWeights.add(weights);
+        }
+
+        Matrix matrix = new Matrix(itemIds.size(), basketItems.toArray(int[][]::new), basketWeights.toArray(double[][]::new));
+        Neighbor[][] result = new Neighbor[itemIds.size()][];
+        pool.invoke(new NeighborTask(matrix, k, itemIds, result, 0, itemIds.size()));
+
+        Map<Long, List<Neighbor>> neighbors = new HashMap<>();
+        for (int item = 0; item < result.length; item++) {
+            if (result[item].length > 0)
+                neighbors.put(itemIds.get(item), List.of(result[item]));
+        }
+        return neighbors;
+    }
+
+    public record Interaction(long userId, long itemId, double weight) {
+    }
+
+    public record Neighbor(long itemId, double score) {
+    }
+
+    //basket(사용자 -> 아이템) 과 역색인(아이템 -> 사용자, 사용자 안에서의 위치)
+    private static final class Matrix {
+        private final int[][] basketItems;
+        private final double[][] basketWeights;
+        private final int[][] itemUsers;
+        private final double[][] itemUserWeights;
+        private final double[] norms;
+
+        private Matrix(int itemCount, int[][] basketItems, double[][] basketWeights) {
+            this.basketItems = basketItems;
+            this.basketWeights = basketWeights;
+
+            int[] counts = new int[itemCount];
+            for (int[] items : basketItems)
+                for (int item : items)
+                    counts[item]++;
+            itemUsers = new int[itemCount][];
+            itemUserWeights = new double[itemCount][];
+            for (int item = 0; item < itemCount; item++) {
+                itemUsers[item] = new int[counts[item]];
+                itemUserWeights[item] = new double[counts[item]];
+            }
+
+            int[] filled = new int[itemCount];
+            norms = new double[itemCount];
+            for (int user = 0; user < basketItems.length; user++) {
+                for (int i = 0; i < basketItems[user].length; i++) {
+                    int item = basketItems[user][i];
+                    double weight = basketWeights[user][i];
+                    itemUsers[item][filled[item]] = user;
+                    itemUserWeights[item][filled[item]++] = weight;
+                    norms[item] += weight * weight;
+                }
+            }
+            for (int item = 0; item < itemCount; item++)
+                norms[item] = Math.sqrt(norms[item]);
+        }
+    }
+
+    private static final class NeighborTask extends RecursiveAction {
+        private final Matrix matrix;
+        private final int k;
+        private final List<Long> itemIds;
+        private final Neighbor[][] result;
+        private final int from;
+        private final int to;
+
+        private NeighborTask(Matrix matrix, int k, List<Long> itemIds, Neighbor[][] result, int from, int to) {
+            this.matrix = matrix;
+            this.k = k;
+            this.itemIds = itemIds;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new NeighborTask(matrix, k, itemIds, result, from, mid),
+                        new NeighborTask(matrix, k, itemIds, result, mid, to));
+                return;
+            }
+
+            //아이템별 내적 누적 (쓴 칸만 기록해 두었다가 다음 아이템 전에 되돌림)
+            double[] dot = new double[matrix.norms.length];
+            int[] touched = new int[matrix.norms.length];
+            for (int item = from; item < to; item++) {
+                int touchedCount = 0;
+                int[] users = matrix.itemUsers[item];
+                for (int u = 0; u < users.length; u++) {
+                    double weight = matrix.itemUserWeights[item][u];
+                    int[] items = matrix.basketItems[users[u]];
+                    double[] weights = matrix.basketWeights[users[u]];
+                    for (int i = 0; i < items.length; i++) {
+                        int other = items[i];
+                        if (other == item)
+                            continue;
+                        if (dot[other] == 0)
+                            touched[touchedCount++] = other;
+                        dot[other] += weight * weights[i];
+                    }
+                }
+                result[item] = top(item, dot, touched, touchedCount);
+            }
+        }
+
+        private Neighbor[] top(int item, double[] dot, int[] touched, int touchedCount) {
+            PriorityQueue<Neighbor> heap = new PriorityQueue<>(Comparator.comparingDouble(Neighbor::score));
+            for (int t = 0; t < touchedCount; t++) {
+                int other = touched[t];
+                double score = dot[other] / (matrix.norms[item] * matrix.norms[other]);
+                dot[other] = 0;
+                if (heap.size() < k) {
+                    heap.add(new Neighbor(itemIds.get(other), score));
+                } else if (score > heap.peek().score()) {
+                    heap.poll();
+                    heap.add(new Neighbor(itemIds.get(other), score));
+                }
+            }
+            Neighbor[] neighbors = heap.toArray(Neighbor[]::new);
+            Arrays.sort(neighbors, Comparator.comparingDouble(Neighbor::score).reversed());
+            return neighbors;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package umc.meme.shop.global.util;
+
+import java.util.Arrays;
+
+/**
+ * long 전용 해시 집합 (open addressing, linear probing)
+ * Long 박싱과 노드 객체 없이 long[] 하나에 담아 ID 집합을 작게 유지한다. 동기화하지 않으므로 호출하는 쪽에서 보호한다.
+ */
+public class LongHashSet {
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] keys;
+    private int mask;
+    private int size;
+    //0 은 빈 칸 표시로 쓰므로 따로 보관
+    private boolean hasZero;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1);
+        this.keys = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public boolean contains(long key) {
+        if (key == EMPTY)
+            return hasZero;
+        for (int i = index(key); ; i = (i + 1) & mask) {
+            long current = keys[i];
+            if (current == EMPTY)
+                return false;
+            if (current == key)
+                return true;
+        }
+    }
+
+    public boolean add(long key) {
+        if (key == EMPTY) {
+            if (hasZero)
+                return false;
+            hasZero = true;
+            size++;
+            return true;
+        }
+
+        int i = index(key);
+        for (; keys[i] != EMPTY; i = (i + 1) & mask) {
+            if (keys[i] == key)
+                return false;
+        }
+        keys[i] = key;
+        size++;
+        //load factor 0.5 를 넘으면 두 배로
+        if (size * 2 > keys.length)
+            rehash(keys.length * 2);
+        return true;
+    }
+
+    public boolean remove(long key) {
+        if (key == EMPTY) {
+            if (!hasZero)
+                return false;
+            hasZero = false;
+            size--;
+            return true;
+        }
+
+        for (int i = index(key); keys[i] != EMPTY; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                shiftBack(i);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long[] toArray() {
+        long[] result = new long[size];
+        int n = 0;
+        if (hasZero)
+            result[n++] = EMPTY;
+        for (long key : keys) {
+            if (key != EMPTY)
+                result[n++] = key;
+        }
+        return result;
+    }
+
+    //삭제한 칸 뒤의 probe 체인을 당겨 와 빈 칸 없이 유지 (tombstone 없음)
+    private void shiftBack(int hole) {
+        int i = hole;
+        for (int j = (i + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+            int home = index(keys[j]);
+            //home 이 (i, j] 구간 밖이면 i 로 옮길 수 있다
+            boolean stays = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+            if (!stays) {
+                keys[i] = keys[j];
+                i = j;
+            }
+        }
+        keys[i] = EMPTY;
+    }
+
+    private void rehash(int capacity) {
+        long[] old = keys;
+        keys = new long[capacity];
+        mask = capacity - 1;
+        for (long key : old) {
+            if (key == EMPTY)
+                continue;
+            int i = index(key);
+            while (keys[i] != EMPTY)
+                i = (i + 1) & mask;
+            keys[i] = key;
+        }
+    }
+
+    private int index(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,44 @@
+package umc.meme.shop.global.util;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * 시간 순으로 증가하는 Snowflake 방식 ID
+ * [41bit 밀리초(2024-01-01 기준) | 4bit 노드 | 8bit 순번] 으로 53bit 안에 담아 JavaScript number 로도 손실 없이 주고받는다.
+ * 같은 밀리초에 순번을 다 쓰거나 시계가 뒤로 가면 마지막 시각을 이어서 사용해 항상 증가하는 값을 보장한다.
+ */
+public class Snowflake {
+    public static final int NODE_BITS = 4;
+    public static final int SEQUENCE_BITS = 8;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private final long nodeId;
+    private final Clock clock;
+
+    private long lastMillis = -1;
+    private long sequence = 0;
+
+    public Snowflake(long nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID)
+            throw new IllegalArgumentException("node id must be between 0 and " + MAX_NODE_ID);
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public synchronized long nextId() {
+        long millis = Math.max(clock.millis() - EPOCH, lastMillis);
+        if (millis == lastMillis) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            //같은 밀리초의 순번을 다 쓰면 다음 밀리초를 미리 사용
+            if (sequence == 0)
+                millis++;
+        } else {
+            sequence = 0;
+        }
+        lastMillis = millis;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+}
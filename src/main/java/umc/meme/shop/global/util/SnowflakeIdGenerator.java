@@ -0,0 +1,36 @@
+package umc.meme.shop.global.util;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @SnowflakeId 엔티티 ID 생성기
+ * 노드 번호는 hibernate 설정(meme.id.node-id, HibernateConfig 에서 전달)에서 읽고,
+ * 같은 노드의 모든 엔티티가 하나의 Snowflake 를 공유해 테이블 간에도 ID 가 겹치지 않는다.
+ */
+public class SnowflakeIdGenerator implements IdentifierGenerator {
+    public static final String NODE_ID_SETTING = "meme.id.node-id";
+
+    private static final Map<Long, Snowflake> SNOWFLAKES = new ConcurrentHashMap<>();
+
+    private final Snowflake snowflake;
+
+    public SnowflakeIdGenerator(SnowflakeId config, Member idMember, CustomIdGeneratorCreationContext context) {
+        Object nodeId = context.getServiceRegistry().getService(ConfigurationService.class)
+                .getSettings().get(NODE_ID_SETTING);
+        long node = nodeId == null ? 0 : Long.parseLong(nodeId.toString());
+        this.snowflake = SNOWFLAKES.computeIfAbsent(node, id -> new Snowflake(id, Clock.systemUTC()));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return snowflake.nextId();
+    }
+}
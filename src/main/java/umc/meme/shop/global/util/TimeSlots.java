@@ -0,0 +1,70 @@
+package umc.meme.shop.global.util;
+
+import umc.meme.shop.global.enums.DayOfWeek;
+import umc.meme.shop.global.enums.Times;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 하루 48개의 30분 단위 시간(Times)을 long 하나의 비트로 다루는 유틸
+ * bit i 는 Times.values()[i] 에 해당하고, 겹침 여부는 AND 한 번으로 확인한다.
+ */
+public final class TimeSlots {
+    public static final int SLOT_COUNT = Times.values().length;
+    public static final long ALL = (1L << SLOT_COUNT) - 1;
+
+    private TimeSlots() {
+    }
+
+    public static long mask(Times time) {
+        return 1L << time.ordinal();
+    }
+
+    public static long mask(Collection<Times> times) {
+        long mask = 0;
+        for (Times time : times) {
+            if (time != null)
+                mask |= mask(time);
+        }
+        return mask;
+    }
+
+    //mask 의 모든 slot 이 slots 에 포함되는지
+    public static boolean contains(long slots, long mask) {
+        return (slots & mask) == mask;
+    }
+
+    public static boolean overlaps(long slots, long mask) {
+        return (slots & mask) != 0;
+    }
+
+    public static List<Times> toTimes(long slots) {
+        List<Times> times = new ArrayList<>(Long.bitCount(slots));
+        Times[] values = Times.values();
+        for (long rest = slots & ALL; rest != 0; rest &= rest - 1)
+            times.add(values[Long.numberOfTrailingZeros(rest)]);
+        return times;
+    }
+
+    //slot 시작 시각 (_14_30 -> 14:30)
+    public static LocalTime startOf(Times time) {
+        return LocalTime.of(time.ordinal() / 2, time.ordinal() % 2 * 30);
+    }
+
+    public static DayOfWeek dayOfWeek(LocalDate date) {
+        return DayOfWeek.values()[date.getDayOfWeek().getValue() - 1];
+    }
+
+    //예약 날짜(java.util.Date) -> LocalDate (DB 에서 읽은 java.sql.Date 는 toInstant 를 지원하지 않음)
+    public static LocalDate toLocalDate(Date date) {
+        if (date instanceof java.sql.Date sqlDate)
+            return sqlDate.toLocalDate();
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+}
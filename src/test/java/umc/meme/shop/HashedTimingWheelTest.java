@@ -0,0 +1,112 @@
+package umc.meme.shop;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import umc.meme.shop.global.util.HashedTimingWheel;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//시계를 직접 움직이며 타이밍 휠 만료 시점 확인
+public class HashedTimingWheelTest {
+    private static final Duration TICK = Duration.ofMinutes(1);
+    private static final int WHEEL_SIZE = 8;
+
+    private MutableClock clock;
+    private HashedTimingWheel<String> wheel;
+    private Instant start;
+
+    @BeforeEach
+    void setUp() {
+        start = Instant.parse("2024-03-01T00:00:00Z");
+        clock = new MutableClock(start);
+        wheel = new HashedTimingWheel<>(clock, TICK, WHEEL_SIZE);
+    }
+
+    @Test
+    void expiresOnlyAfterDeadline() {
+        wheel.schedule("a", start.plus(Duration.ofMinutes(3)));
+
+        clock.advance(Duration.ofMinutes(2));
+        assertTrue(wheel.advance().isEmpty());
+
+        clock.advance(Duration.ofMinutes(1));
+        assertEquals(List.of("a"), wheel.advance());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void keepsEntriesBeyondOneRotation() {
+        //한 바퀴(8분)보다 먼 만료 시각
+        wheel.schedule("far", start.plus(Duration.ofMinutes(20)));
+        wheel.schedule("near", start.plus(Duration.ofMinutes(4)));
+
+        for (int minute = 1; minute < 20; minute++) {
+            clock.advance(TICK);
+            List<String> expired = wheel.advance();
+            assertEquals(minute == 4 ? List.of("near") : List.of(), expired);
+        }
+
+        clock.advance(TICK);
+        assertEquals(List.of("far"), wheel.advance());
+    }
+
+    @Test
+    void catchesUpAfterLongPause() {
+        wheel.schedule("a", start.plus(Duration.ofMinutes(5)));
+        wheel.schedule("b", start.plus(Duration.ofMinutes(30)));
+        wheel.schedule("c", start.plus(Duration.ofMinutes(31)));
+
+        //여러 바퀴를 한 번에 건너뛰어도 지난 항목만 만료
+        clock.advance(Duration.ofMinutes(30));
+        List<String> expired = wheel.advance();
+        assertEquals(2, expired.size());
+        assertTrue(expired.containsAll(List.of("a", "b")));
+
+        clock.advance(TICK);
+        assertEquals(List.of("c"), wheel.advance());
+    }
+
+    @Test
+    void pastDeadlineExpiresOnNextAdvance() {
+        clock.advance(Duration.ofMinutes(10));
+        wheel.advance();
+
+        wheel.schedule("late", start);
+        assertEquals(List.of("late"), wheel.advance());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
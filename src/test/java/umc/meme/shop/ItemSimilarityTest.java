@@ -0,0 +1,79 @@
+package umc.meme.shop;
+
+import org.junit.jupiter.api.Test;
+import umc.meme.shop.global.util.ItemSimilarity;
+import umc.meme.shop.global.util.ItemSimilarity.Interaction;
+import umc.meme.shop.global.util.ItemSimilarity.Neighbor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//함께 관심/예약된 아이템 유사도 계산 확인
+public class ItemSimilarityTest {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @Test
+    void 함께_등장한_아이템만_이웃이_된다() {
+        List<Interaction> interactions = List.of(
+                new Interaction(1, 10, 1), new Interaction(1, 20, 1),
+                new Interaction(2, 10, 1), new Interaction(2, 20, 1),
+                new Interaction(3, 10, 1), new Interaction(3, 30, 1),
+                new Interaction(4, 40, 1));
+
+        Map<Long, List<Neighbor>> neighbors = ItemSimilarity.topNeighbors(interactions, 5, 100, POOL);
+
+        List<Neighbor> of10 = neighbors.get(10L);
+        assertEquals(2, of10.size());
+        //10 과 20 은 2 명이 함께, 10 과 30 은 1 명이 함께 상호작용
+        assertEquals(20L, of10.get(0).itemId());
+        assertEquals(2 / Math.sqrt(3 * 2), of10.get(0).score(), 1e-9);
+        assertEquals(30L, of10.get(1).itemId());
+        assertFalse(neighbors.containsKey(40L));
+    }
+
+    @Test
+    void 가중치와_basket_상한을_반영한다() {
+        List<Interaction> interactions = List.of(
+                //예약(가중치 2) 이 관심(1) 보다 강하게 반영
+                new Interaction(1, 10, 2), new Interaction(1, 20, 2),
+                new Interaction(2, 10, 1), new Interaction(2, 30, 1),
+                //상한을 넘는 사용자는 제외
+                new Interaction(3, 10, 1), new Interaction(3, 30, 1),
+                new Interaction(3, 40, 1), new Interaction(3, 50, 1));
+
+        Map<Long, List<Neighbor>> neighbors = ItemSimilarity.topNeighbors(interactions, 5, 3, POOL);
+
+        assertEquals(20L, neighbors.get(10L).get(0).itemId());
+        assertFalse(neighbors.containsKey(40L));
+    }
+
+    @Test
+    void 이웃은_상위_K_개만_남는다() {
+        List<Interaction> interactions = new ArrayList<>();
+        //아이템 0 과 item 을 함께 본 사용자 수가 item % 20 + 1 명
+        long userId = 0;
+        for (long item = 1; item <= 300; item++) {
+            for (int n = 0; n < item % 20 + 1; n++) {
+                userId++;
+                interactions.add(new Interaction(userId, 0, 1));
+                interactions.add(new Interaction(userId, item, 1));
+            }
+        }
+
+        Map<Long, List<Neighbor>> neighbors = ItemSimilarity.topNeighbors(interactions, 10, 100, POOL);
+
+        List<Neighbor> of0 = neighbors.get(0L);
+        assertEquals(10, of0.size());
+        for (int i = 1; i < of0.size(); i++)
+            assertTrue(of0.get(i - 1).score() >= of0.get(i).score());
+        //함께 본 사용자가 가장 많은(20 명) 아이템들이 남는다
+        assertTrue(of0.stream().allMatch(neighbor -> neighbor.itemId() % 20 == 19));
+        assertEquals(300, neighbors.size() - 1);
+    }
+}
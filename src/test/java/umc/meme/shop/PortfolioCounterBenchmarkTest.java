@@ -0,0 +1,72 @@
+package umc.meme.shop;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import umc.meme.shop.domain.portfolio.service.PortfolioCounterService;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//한 포트폴리오에 대한 동시 관심 등록 처리량: Portfolio 행 직접 갱신 vs 샤드 카운터 (./gradlew benchmark 로만 실행)
+@Tag("benchmark")
+@SpringBootTest
+public class PortfolioCounterBenchmarkTest extends PortfolioFixtureSupport {
+    private static final Logger log = LoggerFactory.getLogger(PortfolioCounterBenchmarkTest.class);
+    private static final int THREADS = 16;
+    private static final int WRITES_PER_THREAD = 500;
+    private static final int WARMUP_WRITES_PER_THREAD = 50;
+
+    @Autowired
+    private PortfolioCounterService portfolioCounterService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        portfolioCounterService.fold();
+    }
+
+    @Test
+    void rowUpdateVsShardedCounter() throws InterruptedException {
+        Long portfolioId = portfolio.getPortfolioId();
+        Runnable rowUpdate = () -> transactionTemplate.executeWithoutResult(
+                status -> portfolioRepository.applyCounterDelta(portfolioId, 0, 0, 1));
+        Runnable sharded = () -> portfolioCounterService.addFavorite(portfolioId);
+
+        measure(rowUpdate, WARMUP_WRITES_PER_THREAD);
+        measure(sharded, WARMUP_WRITES_PER_THREAD);
+        long rowNanos = measure(rowUpdate, WRITES_PER_THREAD);
+        long shardNanos = measure(sharded, WRITES_PER_THREAD);
+
+        int total = THREADS * WRITES_PER_THREAD;
+        log.info("row update : {} writes by {} threads in {} ms ({} writes/s)",
+                total, THREADS, TimeUnit.NANOSECONDS.toMillis(rowNanos), throughput(total, rowNanos));
+        log.info("sharded    : {} writes by {} threads in {} ms ({} writes/s)",
+                total, THREADS, TimeUnit.NANOSECONDS.toMillis(shardNanos), throughput(total, shardNanos));
+
+        //측정한 쓰기도 합산 후 하나도 유실되지 않아야 한다
+        portfolioCounterService.fold();
+        int expected = THREADS * (WARMUP_WRITES_PER_THREAD + WRITES_PER_THREAD) * 2;
+        assertEquals(expected, portfolioRepository.findById(portfolioId).orElseThrow().getFavoriteCount());
+    }
+
+    private long measure(Runnable write, int writesPerThread) throws InterruptedException {
+        long begin = System.nanoTime();
+        runConcurrently(THREADS, i -> {
+            for (int j = 0; j < writesPerThread; j++)
+                write.run();
+        });
+        return Math.max(1, System.nanoTime() - begin);
+    }
+
+    private static long throughput(int writes, long nanos) {
+        return writes * TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+}
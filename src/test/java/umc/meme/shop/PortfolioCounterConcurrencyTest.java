@@ -0,0 +1,49 @@
+package umc.meme.shop;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import umc.meme.shop.domain.portfolio.entity.Portfolio;
+import umc.meme.shop.domain.portfolio.service.PortfolioCounterService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//한 포트폴리오에 대한 동시 관심 등록(Portfolio 행 직접 갱신 + 샤드 카운터)이 합산 후 하나도 유실되지 않는지 확인
+@SpringBootTest
+public class PortfolioCounterConcurrencyTest extends PortfolioFixtureSupport {
+    private static final int THREADS = 16;
+    private static final int WRITES_PER_THREAD = 50;
+
+    @Autowired
+    private PortfolioCounterService portfolioCounterService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        portfolioCounterService.fold();
+    }
+
+    @Test
+    void concurrentFavoriteWrites() throws InterruptedException {
+        Long portfolioId = portfolio.getPortfolioId();
+        int total = THREADS * WRITES_PER_THREAD;
+
+        runConcurrently(THREADS, i -> {
+            for (int j = 0; j < WRITES_PER_THREAD; j++)
+                transactionTemplate.executeWithoutResult(status -> portfolioRepository.applyCounterDelta(portfolioId, 0, 0, 1));
+        });
+        runConcurrently(THREADS, i -> {
+            for (int j = 0; j < WRITES_PER_THREAD; j++)
+                portfolioCounterService.addFavorite(portfolioId);
+        });
+
+        //스케줄 fold 와 겹쳐도 합산 후 증감분이 하나도 유실되지 않아야 한다
+        portfolioCounterService.fold();
+        Portfolio folded = portfolioRepository.findById(portfolioId).orElseThrow();
+        assertEquals(total * 2, folded.getFavoriteCount());
+        assertEquals(0, portfolioCounterService.pending(portfolioId).favoriteCount());
+    }
+}
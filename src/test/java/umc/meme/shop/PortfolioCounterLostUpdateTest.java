@@ -0,0 +1,79 @@
+package umc.meme.shop;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import umc.meme.shop.domain.artist.dto.request.ArtistProfileDto;
+import umc.meme.shop.domain.artist.entity.Artist;
+import umc.meme.shop.domain.portfolio.dto.request.UpdatePortfolioDto;
+import umc.meme.shop.domain.portfolio.entity.Portfolio;
+import umc.meme.shop.domain.portfolio.service.PortfolioCounterService;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//포트폴리오를 읽은 뒤 다른 트랜잭션에서 합산된 증감분이 포트폴리오 수정으로 덮어써지지 않는지 확인
+@SpringBootTest
+public class PortfolioCounterLostUpdateTest extends PortfolioFixtureSupport {
+    @Autowired
+    private PortfolioCounterService portfolioCounterService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        portfolioCounterService.fold();
+    }
+
+    @Test
+    void 읽은_뒤_합산된_리뷰_집계가_수정으로_유실되지_않는다() {
+        Long portfolioId = portfolio.getPortfolioId();
+        portfolioCounterService.addReview(portfolioId, 5);
+        portfolioCounterService.addReview(portfolioId, 5);
+        portfolioCounterService.addReview(portfolioId, 2);
+        portfolioCounterService.addFavorite(portfolioId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Portfolio loaded = portfolioRepository.findById(portfolioId).orElseThrow();
+            assertEquals(0, loaded.getReviewCount());
+
+            //읽은 뒤 커밋된 fold (별도 스레드 = 별도 트랜잭션)
+            CompletableFuture.runAsync(portfolioCounterService::fold).join();
+
+            loaded.updatePortfolio(new UpdatePortfolioDto(artist.getUserId(), portfolioId, null, null,
+                    20000, null, false, new ArrayList<>()));
+        });
+
+        Portfolio updated = portfolioRepository.findById(portfolioId).orElseThrow();
+        assertEquals(20000, updated.getPrice());
+        assertEquals(3, updated.getReviewCount());
+        assertEquals(12, updated.getStarSum());
+        assertEquals(4.0, updated.getRating());
+        assertEquals(2, updated.getStar5Count());
+        assertEquals(1, updated.getStar2Count());
+        assertEquals(1, updated.getFavoriteCount());
+    }
+
+    @Test
+    void 읽은_뒤_합산된_아티스트_집계가_프로필_수정으로_유실되지_않는다() {
+        Long portfolioId = portfolio.getPortfolioId();
+        portfolioCounterService.addReview(portfolioId, 4);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Artist loaded = artistRepository.findById(artist.getUserId()).orElseThrow();
+            assertEquals(0, loaded.getReviewCount());
+
+            CompletableFuture.runAsync(portfolioCounterService::fold).join();
+
+            loaded.updateArtist(ArtistProfileDto.builder().introduction("updated").build());
+        });
+
+        Artist updated = artistRepository.findById(artist.getUserId()).orElseThrow();
+        assertEquals("updated", updated.getIntroduction());
+        assertEquals(1, updated.getReviewCount());
+    }
+}
@@ -0,0 +1,92 @@
+package umc.meme.shop;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import umc.meme.shop.domain.artist.entity.Artist;
+import umc.meme.shop.domain.artist.repository.ArtistRepository;
+import umc.meme.shop.domain.portfolio.entity.Portfolio;
+import umc.meme.shop.domain.portfolio.repository.PortfolioRepository;
+import umc.meme.shop.global.enums.Category;
+import umc.meme.shop.global.enums.Provider;
+import umc.meme.shop.global.enums.UserStatus;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//아티스트 한 명과 포트폴리오 하나를 만들고 지우는 통합 테스트 공통 fixture (하위 클래스의 @AfterEach 가 먼저 실행된다)
+public abstract class PortfolioFixtureSupport {
+    @Autowired
+    protected ArtistRepository artistRepository;
+    @Autowired
+    protected PortfolioRepository portfolioRepository;
+
+    protected Artist artist;
+    protected Portfolio portfolio;
+
+    @BeforeEach
+    void createArtistAndPortfolio() {
+        artist = Artist.builder()
+                .profileImg("")
+                .nickname("fixtureArtist")
+                .username("fixtureArtist")
+                .email("")
+                .password("")
+                .role("ARTIST")
+                .userStatus(UserStatus.ACTIVE)
+                .provider(Provider.KAKAO)
+                .portfolioList(new ArrayList<>())
+                .build();
+        artistRepository.save(artist);
+
+        portfolio = Portfolio.builder()
+                .artist(artist)
+                .category(Category.DAILY)
+                .makeupName("fixture-" + System.nanoTime())
+                .price(10000)
+                .info(getClass().getSimpleName())
+                .portfolioImgList(new ArrayList<>())
+                .build();
+        portfolioRepository.save(portfolio);
+    }
+
+    @AfterEach
+    void deleteArtistAndPortfolio() {
+        portfolioRepository.deleteById(portfolio.getPortfolioId());
+        artistRepository.deleteById(artist.getUserId());
+    }
+
+    //threads 개 스레드에서 task(스레드 번호) 를 동시에 시작하고 모두 끝날 때까지 기다린다
+    protected static void runConcurrently(int threads, ConcurrentTask task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.run(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertTrue(done.await(2, TimeUnit.MINUTES));
+        executor.shutdown();
+    }
+
+    protected interface ConcurrentTask {
+        void run(int index) throws InterruptedException;
+    }
+}
@@ -0,0 +1,199 @@
+package umc.meme.shop;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import umc.meme.shop.domain.model.entity.Model;
+import umc.meme.shop.domain.model.repository.ModelRepository;
+import umc.meme.shop.domain.reservation.dto.request.AlterReservationDto;
+import umc.meme.shop.domain.reservation.dto.request.ReservationBatchRequestDto;
+import umc.meme.shop.domain.reservation.dto.request.ReservationRequestDto;
+import umc.meme.shop.domain.reservation.dto.request.ReservationSlotDto;
+import umc.meme.shop.domain.reservation.dto.response.ReservationBatchResultDto;
+import umc.meme.shop.domain.reservation.dto.response.ReservationSlotResultDto;
+import umc.meme.shop.domain.reservation.repository.ArtistScheduleRepository;
+import umc.meme.shop.domain.reservation.repository.ReservationRepository;
+import umc.meme.shop.domain.reservation.service.ReservationService;
+import umc.meme.shop.global.ErrorStatus;
+import umc.meme.shop.global.enums.*;
+import umc.meme.shop.global.exception.GlobalException;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//같은 아티스트/시간에 대한 동시 예약 요청(단건, 배치) 중 하나만 성공하는지 확인
+@SpringBootTest
+public class ReservationConcurrencyTest extends PortfolioFixtureSupport {
+    private static final int THREADS = 32;
+
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private ModelRepository modelRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ArtistScheduleRepository artistScheduleRepository;
+
+    private final List<Model> modelList = new ArrayList<>();
+    private final LocalDate reservationDate = LocalDate.now().plusDays(7);
+    private final LocalDate nextDate = reservationDate.plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < THREADS; i++) {
+            Model model = Model.builder()
+                    .profileImg("")
+                    .nickname("stressModel" + i)
+                    .username("stressModel" + i)
+                    .email("")
+                    .password("")
+                    .role("MODEL")
+                    .userStatus(UserStatus.ACTIVE)
+                    .provider(Provider.KAKAO)
+                    .skinType(SkinType.UNKNOWN)
+                    .personalColor(PersonalColor.UNKNOWN)
+                    .reservationList(new ArrayList<>())
+                    .build();
+            modelList.add(modelRepository.save(model));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll(reservationRepository.findByArtist(artist));
+        artistScheduleRepository.deleteAll(artistScheduleRepository.findByArtistIdAndScheduleDateBetween(
+                artist.getUserId(), reservationDate, nextDate));
+        modelRepository.deleteAll(modelList);
+    }
+
+    @Test
+    void sameSlotIsBookedOnce() throws InterruptedException {
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger duplicated = new AtomicInteger();
+
+        runConcurrently(THREADS, i -> {
+            try {
+                reservationService.createReservation(request(modelList.get(i), Times._14_00));
+                success.incrementAndGet();
+            } catch (GlobalException e) {
+                if (e.getErrorStatus() == ErrorStatus.NOT_ALLOW_DUPLICATED_RESERVATION)
+                    duplicated.incrementAndGet();
+            }
+        });
+
+        assertEquals(1, success.get());
+        assertEquals(THREADS - 1, duplicated.get());
+        assertEquals(1, reservationRepository.findByArtist(artist).size());
+    }
+
+    @Test
+    void differentSlotsAreAllBooked() throws InterruptedException {
+        AtomicInteger success = new AtomicInteger();
+
+        runConcurrently(THREADS, i -> {
+            reservationService.createReservation(request(modelList.get(i), Times.values()[i]));
+            success.incrementAndGet();
+        });
+
+        assertEquals(THREADS, success.get());
+        assertEquals(THREADS, reservationRepository.findByArtist(artist).size());
+    }
+
+    @Test
+    void overlappingBatchesBookOnce() throws InterruptedException {
+        List<ReservationBatchResultDto> rejectedList = new ArrayList<>();
+        AtomicInteger success = new AtomicInteger();
+
+        //모든 배치가 두 날짜의 같은 두 slot 을 요청
+        runConcurrently(THREADS, i -> {
+            ReservationBatchResultDto result = reservationService.createReservations(
+                    batchRequest(modelList.get(i), Times._10_00, Times._10_30));
+            if (result.isBooked())
+                success.incrementAndGet();
+            else
+                synchronized (rejectedList) {
+                    rejectedList.add(result);
+                }
+        });
+
+        assertEquals(1, success.get());
+        assertEquals(THREADS - 1, rejectedList.size());
+        assertEquals(4, reservationRepository.findByArtist(artist).size());
+        //실패한 배치는 실제로 겹친 slot 을 이유로 받는다 (모두 RESERVATION_BATCH_ABORTED 가 아님)
+        for (ReservationBatchResultDto result : rejectedList)
+            assertTrue(result.getSlotList().stream()
+                    .anyMatch(slot -> ErrorStatus.NOT_ALLOW_DUPLICATED_RESERVATION.getMessage().equals(slot.getReason())));
+    }
+
+    @Test
+    void disjointBatchesAreAllBooked() throws InterruptedException {
+        AtomicInteger success = new AtomicInteger();
+
+        runConcurrently(THREADS, i -> {
+            if (reservationService.createReservations(batchRequest(modelList.get(i), Times.values()[i])).isBooked())
+                success.incrementAndGet();
+        });
+
+        assertEquals(THREADS, success.get());
+        assertEquals(THREADS * 2, reservationRepository.findByArtist(artist).size());
+    }
+
+    @Test
+    void releasedSlotIsBookedAgainByBatch() {
+        Long reservationId = reservationService.createReservation(request(modelList.get(0), Times._14_00)).getReservationId();
+
+        //충돌한 배치가 예약된 비트맵을 캐시에 남긴 뒤 취소로 slot 을 반납
+        ReservationBatchResultDto rejected = reservationService.createReservations(batchRequest(modelList.get(1), Times._14_00));
+        assertFalse(rejected.isBooked());
+
+        AlterReservationDto cancel = new AlterReservationDto();
+        cancel.setReservationId(reservationId);
+        cancel.setStatus(Status.CANCEL);
+        reservationService.updateReservationStatus(cancel);
+
+        ReservationBatchResultDto booked = reservationService.createReservations(batchRequest(modelList.get(1), Times._14_00));
+        assertTrue(booked.isBooked());
+        assertTrue(booked.getSlotList().stream().allMatch(ReservationSlotResultDto::isBooked));
+    }
+
+    private ReservationRequestDto request(Model model, Times time) {
+        ReservationRequestDto dto = new ReservationRequestDto();
+        dto.setModelId(model.getUserId());
+        dto.setPortfolioId(portfolio.getPortfolioId());
+        dto.setReservationDate(Date.valueOf(reservationDate));
+        dto.setReservationDayOfWeekAndTime(Map.of(DayOfWeek.values()[reservationDate.getDayOfWeek().getValue() - 1], time));
+        dto.setLocation("stress");
+        return dto;
+    }
+
+    //두 날짜에 같은 시간들을 요청하는 배치
+    private ReservationBatchRequestDto batchRequest(Model model, Times... times) {
+        List<ReservationSlotDto> slotList = new ArrayList<>();
+        for (LocalDate date : List.of(reservationDate, nextDate)) {
+            for (Times time : times) {
+                ReservationSlotDto slot = new ReservationSlotDto();
+                slot.setReservationDate(Date.valueOf(date));
+                slot.setTime(time);
+                slotList.add(slot);
+            }
+        }
+
+        ReservationBatchRequestDto dto = new ReservationBatchRequestDto();
+        dto.setModelId(model.getUserId());
+        dto.setPortfolioId(portfolio.getPortfolioId());
+        dto.setLocation("stress");
+        dto.setSlotList(slotList);
+        return dto;
+    }
+}